@@ -4,6 +4,8 @@ package com.backend.auth.repository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Duration;
 
@@ -16,6 +18,10 @@ public class RedisRefreshTokenStore implements RefreshTokenStore{
         return "refresh:user:" + userId;
     }
 
+    private String versionKey(Long userId) {
+        return "token:version:user:" + userId;
+    }
+
     @Override
     public void save(Long userId, String refreshToken, long ttlMs) {
         redisTemplate.opsForValue()
@@ -31,4 +37,26 @@ public class RedisRefreshTokenStore implements RefreshTokenStore{
     public void delete(Long userId) {
         redisTemplate.delete(key(userId));
     }
+
+    @Override
+    public long getTokenVersion(Long userId) {
+        String v = redisTemplate.opsForValue().get(versionKey(userId));
+        return v == null ? 0L : Long.parseLong(v);
+    }
+
+    // 커밋 전에 버전을 올리면 그 사이 재발급된 토큰이 새 버전 + 이전 권한을 갖게 되어 무효화를 피해 감
+    @Override
+    public void revokeAccessTokens(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    redisTemplate.opsForValue().increment(versionKey(userId));
+                }
+            });
+            return;
+        }
+
+        redisTemplate.opsForValue().increment(versionKey(userId));
+    }
 }
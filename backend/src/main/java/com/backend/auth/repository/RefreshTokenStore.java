@@ -8,4 +8,11 @@ public interface RefreshTokenStore {
     String get(Long userId);
 
     void delete(Long userId);
+
+    // access token 버전 (이보다 낮은 버전의 토큰은 무효)
+    long getTokenVersion(Long userId);
+
+    // 발급된 access token 일괄 무효화 (권한 변경 / 로그아웃 / 탈퇴)
+    // 트랜잭션 안에서 호출하면 커밋 후에 반영 (롤백되면 무효화하지 않음)
+    void revokeAccessTokens(Long userId);
 }
\ No newline at end of file
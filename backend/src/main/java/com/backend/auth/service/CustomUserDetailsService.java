@@ -4,11 +4,15 @@ import com.backend.global.util.CustomUserDetails;
 import com.backend.role.entity.RoleEnum;
 import com.backend.user.entity.User;
 import com.backend.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
 
 @Service
@@ -17,9 +21,35 @@ public class CustomUserDetailsService {
 
     private final UserRepository userRepository;
 
-    @Transactional(readOnly = true)
+    // 요청마다 users/user_role 을 조회하지 않도록 인증 주체 캐시
+    // 다른 인스턴스에서 권한이 바뀐 경우에도 TTL 안에 반영됨
+    private final Cache<Long, CustomUserDetails> principalCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
     public CustomUserDetails loadByUserId(Long userId) {
-        User user = userRepository.findById(userId)
+        return principalCache.get(userId, this::load);
+    }
+
+    // 권한 변경 / 탈퇴 시 호출
+    // 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 후에도 한 번 더 제거
+    public void evict(Long userId) {
+        principalCache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    private CustomUserDetails load(Long userId) {
+        // role 까지 한 번에 조회 (지연 로딩용 트랜잭션 불필요)
+        User user = userRepository.findWithRoleById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("user not found: " + userId));
 
         // user.getRole()은 Set<Role>
@@ -40,4 +70,4 @@ public class CustomUserDetailsService {
                 true // enabled 필드 있으면 여기서 반영
         );
     }
-}
\ No newline at end of file
+}
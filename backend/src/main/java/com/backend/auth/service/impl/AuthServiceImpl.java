@@ -4,10 +4,12 @@ import com.backend.auth.dto.TokenResponseDto;
 import com.backend.auth.dto.SignupRequestDto;
 import com.backend.auth.repository.RefreshTokenStore;
 import com.backend.auth.service.AuthService;
+import com.backend.auth.service.CustomUserDetailsService;
 import com.backend.email.repository.EmailAuthStore;
 import com.backend.global.exception.domain.AuthErrorCode;
 import com.backend.global.exception.domain.MailErrorCode;
 import com.backend.global.exception.domain.UserErrorCode;
+import com.backend.global.security.JwtPrincipal;
 import com.backend.global.security.JwtProvider;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.role.entity.Role;
@@ -21,6 +23,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -33,6 +36,7 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final RefreshTokenStore refreshTokenStore;
+    private final CustomUserDetailsService customUserDetailsService;
 
     /**
      * 로그인
@@ -55,8 +59,16 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException(AuthErrorCode.INVALID_PASSWORD);
         }
 
-        // 3) 토큰 발급
-        String accessToken = jwtProvider.createAccessToken(user.getId());
+        // 3) 토큰 발급 (access token 에 권한/토큰 버전 포함)
+        List<RoleEnum> roles = user.getRole().stream()
+                .map(Role::getRole)
+                .toList();
+
+        String accessToken = jwtProvider.createAccessToken(
+                user.getId(),
+                roles,
+                refreshTokenStore.getTokenVersion(user.getId())
+        );
         String refreshToken = jwtProvider.createRefreshToken(user.getId());
 
         // (옵션) 유저당 refresh 1개만 유지하고 싶으면 기존 전부 삭제
@@ -79,13 +91,13 @@ public class AuthServiceImpl implements AuthService {
     @Transactional
     public void logout(String refreshToken) {
 
-        Long userId = jwtProvider.getUserId(refreshToken);
-
-        if (!jwtProvider.validate(refreshToken)) {
-            throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
-        }
+        // 서명 검증 + userId 추출
+        Long userId = parseUserId(refreshToken);
 
         refreshTokenStore.delete(userId);
+
+        // 이미 발급된 access token 도 무효화
+        refreshTokenStore.revokeAccessTokens(userId);
     }
 
     /**
@@ -95,12 +107,8 @@ public class AuthServiceImpl implements AuthService {
     @Transactional
     public TokenResponseDto refresh(String refreshToken) {
 
-        // 유효성 확인
-        if (!jwtProvider.validate(refreshToken)) {
-            throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
-        }
-
-        Long userId = jwtProvider.getUserId(refreshToken);
+        // 유효성 확인 + userId 추출
+        Long userId = parseUserId(refreshToken);
 
         //Redis에 저장된 refresh와 매칭
         String stored = refreshTokenStore.get(userId);
@@ -108,7 +116,12 @@ public class AuthServiceImpl implements AuthService {
             throw new BusinessException(AuthErrorCode.NOT_MATCH_REFRESH_TOKEN);
         }
 
-        String newAccess = jwtProvider.createAccessToken(userId);
+        // 권한이 바뀌었을 수 있으므로 현재 권한으로 재발급
+        String newAccess = jwtProvider.createAccessToken(
+                userId,
+                customUserDetailsService.loadByUserId(userId).getRoles(),
+                refreshTokenStore.getTokenVersion(userId)
+        );
         String newRefresh = jwtProvider.createRefreshToken(userId);
 
         //기존 refresh 교체
@@ -177,4 +190,10 @@ public class AuthServiceImpl implements AuthService {
         emailAuthStore.deleteCode(requestDto.email());
         emailAuthStore.deleteVerified(requestDto.email());
     }
-}
\ No newline at end of file
+
+    private Long parseUserId(String token) {
+        return jwtProvider.parse(token)
+                .map(JwtPrincipal::userId)
+                .orElseThrow(() -> new BusinessException(AuthErrorCode.INVALID_TOKEN));
+    }
+}
@@ -0,0 +1,94 @@
+package com.backend.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지 이력(announcements) 최초 적재
+ * <br/>
+ * announcements 도입 전에 발송된 공지를 사용자별 알림 사본에서 (메시지, 날짜) 단위로 옮기는 일회성 작업.
+ * - 완료 여부는 schema_migrations 의 표시 행으로 판단 (옮길 공지가 0건이어도 완료로 기록)
+ * - 여러 인스턴스가 동시에 기동해도 GET_LOCK 을 잡은 인스턴스만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnnouncementBackfillInitializer implements CommandLineRunner {
+
+    private static final String MIGRATION_NAME = "announcement_backfill";
+    private static final String LOCK_NAME = "migration:" + MIGRATION_NAME;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS schema_migrations (
+                    name VARCHAR(100) NOT NULL PRIMARY KEY,
+                    completed_at DATETIME NOT NULL
+                )
+                """);
+
+        if (isCompleted(jdbcTemplate)) {
+            return;
+        }
+
+        // GET_LOCK 은 세션(커넥션) 단위이므로 잠금/작업/해제를 한 커넥션에서 실행
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+            Integer locked = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+            if (locked == null || locked != 1) {
+                log.info("[Announcement] backfill is running on another instance, skipped");
+                return null;
+            }
+
+            try {
+                // 잠금을 기다리는 동안 다른 인스턴스가 끝냈을 수 있음
+                if (!isCompleted(session)) {
+                    backfill(session);
+                }
+            } finally {
+                session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+            }
+            return null;
+        });
+    }
+
+    private boolean isCompleted(JdbcTemplate template) {
+        Integer done = template.queryForObject(
+                "SELECT count(*) FROM schema_migrations WHERE name = ?", Integer.class, MIGRATION_NAME
+        );
+        return done != null && done > 0;
+    }
+
+    private void backfill(JdbcTemplate session) {
+
+        // 표시 행 도입 전에 이미 적재된 경우 다시 옮기지 않음
+        Integer existing = session.queryForObject(
+                "SELECT count(*) FROM (SELECT 1 FROM announcements LIMIT 1) a", Integer.class
+        );
+
+        int inserted = 0;
+        if (existing == null || existing == 0) {
+            inserted = session.update("""
+                    INSERT INTO announcements (admin_id, message, recipient_count, created_at)
+                    SELECT NULL, n.message, count(*), min(n.created_at)
+                    FROM notifications n
+                    WHERE n.notification_type = 'ANNOUNCEMENT'
+                    GROUP BY n.message, DATE(n.created_at)
+                    """);
+        }
+
+        session.update(
+                "INSERT INTO schema_migrations (name, completed_at) VALUES (?, NOW())", MIGRATION_NAME
+        );
+        log.info("[Announcement] backfill completed. backfilled={}", inserted);
+    }
+}
@@ -0,0 +1,48 @@
+package com.backend.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 전문 검색용 FULLTEXT 인덱스 생성
+ * <br/>
+ * JPA @Index 로는 FULLTEXT/ngram 을 지정할 수 없어 기동 시 없으면 생성.
+ * InnoDB FULLTEXT 인덱스는 게시글 생성/수정/삭제 커밋 시 함께 갱신됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements CommandLineRunner {
+
+    private static final String POST_INDEX = "ft_post_title_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        createPostIndex();
+    }
+
+    private void createPostIndex() {
+
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                AND table_name = 'posts'
+                AND index_name = ?
+                """, Integer.class, POST_INDEX);
+
+        if (exists != null && exists > 0) {
+            return;
+        }
+
+        // 한국어는 형태소 분리 없이도 검색되도록 ngram 파서 사용
+        jdbcTemplate.execute(
+                "ALTER TABLE posts ADD FULLTEXT INDEX " + POST_INDEX + " (title, content) WITH PARSER ngram"
+        );
+        log.info("[FullTextIndex] created {} on posts", POST_INDEX);
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.global.config;
+
+import com.backend.global.properties.NotificationRetentionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(NotificationRetentionProperties.class)
+public class NotificationConfig {
+}
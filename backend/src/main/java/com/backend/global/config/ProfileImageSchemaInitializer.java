@@ -0,0 +1,46 @@
+package com.backend.global.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * profile_images.data NOT NULL 해제
+ * <br/>
+ * 이미지 내용을 BlobStore 로 옮기면서 data 는 null 로 저장되지만, ddl-auto=update 는 기존 컬럼의
+ * NOT NULL 을 풀지 않으므로 직접 변경. 스키마 갱신(EntityManagerFactory 초기화) 직후,
+ * 웹 서버가 요청을 받기 전에 실행되도록 CommandLineRunner 대신 InitializingBean 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageSchemaInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ddl-auto 로 테이블이 만들어진 뒤 실행되도록 의존성만 둠
+    @SuppressWarnings("unused")
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterPropertiesSet() {
+
+        String nullable = jdbcTemplate.query("""
+                SELECT is_nullable FROM information_schema.columns
+                WHERE table_schema = DATABASE()
+                AND table_name = 'profile_images'
+                AND column_name = 'data'
+                """, rs -> rs.next() ? rs.getString(1) : null);
+
+        // 컬럼이 없거나(신규 스키마) 이미 NULL 허용이면 할 일 없음
+        if (nullable == null || "YES".equalsIgnoreCase(nullable)) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE profile_images MODIFY data LONGBLOB NULL");
+        log.info("[ProfileImageSchema] profile_images.data is now nullable");
+    }
+}
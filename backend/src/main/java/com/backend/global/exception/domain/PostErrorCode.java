@@ -9,6 +9,9 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum PostErrorCode implements ErrorCode {
 
+    // cursor
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "POST_400_1", "잘못된 커서 값입니다."),
+
     //login
     LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "POST_401_1", "로그인이 필요한 서비스입니다."),
 
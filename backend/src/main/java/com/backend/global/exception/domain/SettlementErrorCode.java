@@ -9,6 +9,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum SettlementErrorCode implements ErrorCode {
 
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "SETTLEMENT_400_1", "지원하지 않는 내보내기 형식입니다."),
+
     SETTLEMENT_FORBIDDEN(HttpStatus.FORBIDDEN, "SETTLEMENT_403_1", "해당 정산 내역 조회 권한이 없습니다."),
     NO_PENDING_SETTLEMENT(HttpStatus.FORBIDDEN, "SETTLEMENT_403_2", "정산할 내역이 없습니다."),
 
@@ -33,6 +33,7 @@ public enum UserErrorCode implements ErrorCode {
     // PROFILE IMAGE
     PROFILE_IMAGE_INVALID_TYPE(HttpStatus.BAD_REQUEST, "PROFILE_400_1", "이미지 파일만 업로드할 수 있습니다."),
     PROFILE_IMAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "PROFILE_400_2", "이미지 파일 용량이 너무 큽니다."),
+    PROFILE_IMAGE_INVALID_SIZE(HttpStatus.BAD_REQUEST, "PROFILE_400_3", "지원하지 않는 이미지 크기입니다."),
 
     PROFILE_IMAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "PROFILE_404", "프로필 이미지를 찾을 수 없습니다."),
 
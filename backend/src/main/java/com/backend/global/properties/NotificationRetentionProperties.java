@@ -0,0 +1,20 @@
+package com.backend.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 알림 보관 정책
+ *
+ * @param readDays  읽은 알림 보관 일수 (readAt 기준)
+ * @param batchSize 한 번에 삭제할 행 수
+ * @param pauseMs   배치 사이 대기 시간 (복제 지연/락 경합 완화)
+ */
+@ConfigurationProperties(prefix = "notification.retention")
+public record NotificationRetentionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("90") int readDays,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("50") long pauseMs
+) {
+}
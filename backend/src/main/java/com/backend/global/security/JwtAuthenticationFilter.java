@@ -1,6 +1,7 @@
 package com.backend.global.security;
 
 import com.backend.global.util.CustomUserDetails;
+import com.backend.auth.repository.RefreshTokenStore;
 import com.backend.auth.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Override
     protected void doFilterInternal(
@@ -38,23 +40,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String accessToken = resolveCookie(request, "accessToken");
 
-        if (accessToken != null && jwtProvider.validate(accessToken)) {
-            Long userId = jwtProvider.getUserId(accessToken);
+        if (accessToken != null) {
+            // 서명 검증 + claim 추출 1회, 폐기된 버전의 토큰은 무시
+            jwtProvider.parse(accessToken)
+                    .filter(principal -> principal.tokenVersion() >= refreshTokenStore.getTokenVersion(principal.userId()))
+                    .ifPresent(principal -> authenticate(request, toUserDetails(principal)));
+        }
+
+        filterChain.doFilter(request, response);
+    }
 
-            CustomUserDetails userDetails = customUserDetailsService.loadByUserId(userId);
+    private void authenticate(HttpServletRequest request, CustomUserDetails userDetails) {
 
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                );
 
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    // 권한 claim 이 있으면 DB 조회 없이 구성, 이전 형식 토큰만 사용자 조회
+    // (email 은 토큰에 없으므로 principal 이름은 CustomUserDetails 가 userId 로 대신함)
+    private CustomUserDetails toUserDetails(JwtPrincipal principal) {
+
+        if (!principal.hasRoles()) {
+            return customUserDetailsService.loadByUserId(principal.userId());
         }
 
-        filterChain.doFilter(request, response);
+        return new CustomUserDetails(
+                principal.userId(),
+                null,
+                null,
+                principal.roles(),
+                true
+        );
     }
 
     private String resolveCookie(HttpServletRequest request, String name) {
@@ -0,0 +1,20 @@
+package com.backend.global.security;
+
+import com.backend.role.entity.RoleEnum;
+
+import java.util.List;
+
+/**
+ * 검증이 끝난 토큰에서 꺼낸 인증 정보
+ * <br/>
+ * roles 가 비어 있으면 권한 claim 이 없는 (이전 형식) 토큰
+ */
+public record JwtPrincipal(
+        Long userId,
+        List<RoleEnum> roles,
+        long tokenVersion
+) {
+    public boolean hasRoles() {
+        return !roles.isEmpty();
+    }
+}
@@ -1,5 +1,6 @@
 package com.backend.global.security;
 
+import com.backend.role.entity.RoleEnum;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
@@ -9,9 +10,15 @@ import io.jsonwebtoken.security.Keys;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 
 public class JwtProvider {
+
+    private static final String ROLES_CLAIM = "roles";
+    private static final String VERSION_CLAIM = "ver";
+
     private final SecretKey key;
     private final long accessTokenMs;
     private final long refreshTokenMs;
@@ -22,8 +29,19 @@ public class JwtProvider {
         this.refreshTokenMs = refreshTokenMs;
     }
 
-    public String createAccessToken(Long userId) {
-        return createToken(userId, accessTokenMs);
+    // 권한/토큰 버전을 담은 access token (인증 시 DB 조회 불필요)
+    public String createAccessToken(Long userId, List<RoleEnum> roles, long tokenVersion) {
+        Date now = new Date();
+        Date exp = new Date(now.getTime() + accessTokenMs);
+
+        return Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .claim(ROLES_CLAIM, roles.stream().map(Enum::name).toList())
+                .claim(VERSION_CLAIM, tokenVersion)
+                .setIssuedAt(now)
+                .setExpiration(exp)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
     }
 
     public String createRefreshToken(Long userId) {
@@ -43,29 +61,30 @@ public class JwtProvider {
                 .compact();
     }
 
-    //  추가 1) 토큰 검증
-    public boolean validate(String token) {
+    // 서명 검증과 claim 추출을 한 번에 (실패 시 empty)
+    public Optional<JwtPrincipal> parse(String token) {
         try {
-            Jwts.parser()
+            Claims claims = Jwts.parser()
                     .verifyWith(key)
                     .build()
-                    .parseSignedClaims(token);
-            return true;
+                    .parseSignedClaims(token)
+                    .getPayload();
+
+            List<?> roles = claims.get(ROLES_CLAIM, List.class);
+            Number version = claims.get(VERSION_CLAIM, Number.class);
+
+            return Optional.of(new JwtPrincipal(
+                    Long.valueOf(claims.getSubject()),
+                    roles == null
+                            ? List.of()
+                            : roles.stream().map(r -> RoleEnum.valueOf(String.valueOf(r))).toList(),
+                    version == null ? 0L : version.longValue()
+            ));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    //토큰에서 userId(subject) 추출
-    public Long getUserId(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.valueOf(claims.getSubject());
-    }
     public long getRefreshTokenMs() {
         return refreshTokenMs;
     }
@@ -1,5 +1,6 @@
 package com.backend.global.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -44,6 +45,9 @@ public class SecurityConfig {
 
                 // 4. 경로별 인가(Authorization) 설정
                 .authorizeHttpRequests(auth -> auth
+                        // [SSE] 비동기 응답 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // [공개] 인증/이메일 관련 API는 누구나 접근 가능
                         .requestMatchers(
                                 "/api/auth/**",
@@ -56,6 +60,7 @@ public class SecurityConfig {
                         // [공개] 메인 홈 (크리에이터 목록 조회 및 검색)
                                 "/api/home",
                                 "/api/home/search",
+                                "/api/home/suggest",
                         // [공개] 프로필 이미지 조회 (누구나 볼 수 있어야 함)
                                 "/api/profile-images/**"
                         )
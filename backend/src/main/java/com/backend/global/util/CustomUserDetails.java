@@ -36,7 +36,8 @@ public class CustomUserDetails implements UserDetails {
                 .collect(Collectors.toList());
     }
 
-    @Override public String getUsername() { return email; }
+    // 토큰 claim 으로 구성한 경우 email 이 없으므로 userId 를 principal 이름으로 사용 (Authentication.getName() 이 null 이 되지 않도록)
+    @Override public String getUsername() { return email != null ? email : String.valueOf(userId); }
     @Override public String getPassword() { return password; }
 
     @Override public boolean isAccountNonExpired() { return true; }
@@ -1,18 +1,19 @@
 package com.backend.global.validator;
 
+import com.backend.auth.service.CustomUserDetailsService;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.global.exception.domain.PostErrorCode;
 import com.backend.global.exception.domain.SubscribeErrorCode;
+import com.backend.global.exception.domain.UserErrorCode;
 import com.backend.post.entity.Post;
 import com.backend.post.entity.PostVisibility;
 import com.backend.role.entity.RoleEnum;
-import com.backend.subscribe.entity.Subscribe;
 import com.backend.subscribe.entity.SubscribeStatus;
 import com.backend.subscribe.entity.SubscribeType;
-import com.backend.subscribe.repository.SubscribeRepository;
-import com.backend.user.entity.User;
-import com.backend.user.repository.UserRepository;
+import com.backend.subscribe.repository.SubscribeAccessCache;
+import com.backend.subscribe.repository.SubscribeAccessCache.SubscribeAccess;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -21,8 +22,8 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 public class PostAccessValidator {
 
-    private final SubscribeRepository subscribeRepository;
-    private final UserRepository userRepository;
+    private final SubscribeAccessCache subscribeAccessCache;
+    private final CustomUserDetailsService customUserDetailsService;
 
     /**
      * 게시글 접근 권한 검증
@@ -32,48 +33,55 @@ public class PostAccessValidator {
      */
     public void validatePostAccess(Post post, Long currentUserId) {
 
-        User user = userRepository.findByIdOrThrow(currentUserId);
-
         // 1. 작성자 본인은 프리패스
         if (post.getUser().getId().equals(currentUserId)) {
             return;
         }
 
-        // 2. 어드민은 모든 포스트 접근 가능
-        if (user.hasRole(RoleEnum.ROLE_ADMIN)) {
+        // 2. 어드민은 모든 포스트 접근 가능 (캐시된 인증 정보로 확인)
+        if (isAdmin(currentUserId)) {
             return;
         }
 
         // 3. 구독 검증
-        Subscribe subscribe = validateSubscription(post.getUser().getId(), currentUserId);
+        SubscribeAccess subscribe = validateSubscription(post.getUser().getId(), currentUserId);
 
         // 4. 유료 게시글인 경우 유료 구독 확인
         if (post.getVisibility() == PostVisibility.SUBSCRIBERS_ONLY) {
-            if (subscribe.getType() != SubscribeType.PAID) {
+            if (subscribe.type() != SubscribeType.PAID) {
                 throw new BusinessException(PostErrorCode.PAID_SUBSCRIPTION_REQUIRED);
             }
         }
     }
 
+    // 탈퇴 등으로 사용자가 없으면 Security 예외(500) 대신 사용자 없음으로 응답
+    private boolean isAdmin(Long userId) {
+        try {
+            return customUserDetailsService.loadByUserId(userId).getRoles().contains(RoleEnum.ROLE_ADMIN);
+        } catch (UsernameNotFoundException e) {
+            throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+        }
+    }
+
     /**
      * 구독 여부 및 만료 확인
      */
-    private Subscribe validateSubscription(Long creatorId, Long subscriberId) {
-        // 1. 구독 정보 조회
-        Subscribe subscribe = subscribeRepository
-                .findByUser_IdAndCreator_Id(subscriberId, creatorId)
+    private SubscribeAccess validateSubscription(Long creatorId, Long subscriberId) {
+        // 1. 구독 정보 조회 (캐시)
+        SubscribeAccess subscribe = subscribeAccessCache
+                .get(subscriberId, creatorId)
                 .orElseThrow(() -> new BusinessException(PostErrorCode.SUBSCRIPTION_REQUIRED));
 
         // 2. 유료 구독자 만료 체크
         // 만료일이 존재하고(null 아님), 현재 날짜보다 이전이면(isBefore) -> 만료됨
-        if (subscribe.getExpiredAt() != null
-                && subscribe.getExpiredAt().isBefore(LocalDate.now())) {
+        if (subscribe.expiredAt() != null
+                && subscribe.expiredAt().isBefore(LocalDate.now())) {
             throw new BusinessException(SubscribeErrorCode.FORBIDDEN_SUBSCRIBE);
         }
 
         // 3. 무료 구독자(또는 날짜 없는 구독) 취소 체크
         // 만료일이 없는데(null), 상태가 취소(CANCELED)라면 -> 접근 불가
-        if (subscribe.getExpiredAt() == null && subscribe.getStatus() == SubscribeStatus.CANCELED) {
+        if (subscribe.expiredAt() == null && subscribe.status() == SubscribeStatus.CANCELED) {
             throw new BusinessException(SubscribeErrorCode.FORBIDDEN_SUBSCRIBE);
         }
 
@@ -0,0 +1,27 @@
+package com.backend.like.repository;
+
+import com.backend.like.entity.LikeTargetType;
+
+import java.util.List;
+import java.util.Map;
+
+public interface LikeCountStore {
+
+    // 캐시된 좋아요 수 (없으면 null)
+    Long get(LikeTargetType type, Long targetId);
+
+    // 캐시된 좋아요 수 일괄 조회 (캐시에 없는 대상은 결과에서 빠짐)
+    Map<Long, Long> getAll(LikeTargetType type, List<Long> targetIds);
+
+    // 캐시에 값이 있을 때만 원자적으로 증감 (없으면 null)
+    Long incrementIfPresent(LikeTargetType type, Long targetId, long delta);
+
+    // 캐시에 값이 없을 때만 저장 (DB 집계값 적재용)
+    void putIfAbsent(LikeTargetType type, Long targetId, long count);
+
+    // 정합성 보정용: 읽은 뒤 바뀌지 않았을 때만 제거 (그 사이 증감이 있었으면 false)
+    boolean compareAndDelete(LikeTargetType type, Long targetId, long expected);
+
+    // 캐시된 대상 id 목록 (정합성 보정 스캔용)
+    List<Long> targetIds(LikeTargetType type);
+}
@@ -3,6 +3,7 @@ package com.backend.like.repository;
 import com.backend.like.entity.Like;
 import com.backend.like.entity.LikeTargetType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,7 +15,17 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     long countByTargetTypeAndTargetId(LikeTargetType type, Long targetId);
 
-    void deleteByUser_IdAndTargetTypeAndTargetId(Long userId, LikeTargetType type, Long targetId);
+    @Modifying
+    @Query("""
+            delete from Like l
+            where l.user.id = :userId
+            and l.targetType = :type
+            and l.targetId = :targetId
+            """)
+    int deleteLike(@Param("userId") Long userId,
+                   @Param("type") LikeTargetType type,
+                   @Param("targetId") Long targetId
+    );
 
     interface TargetCount {
         Long getTargetId();
@@ -0,0 +1,107 @@
+package com.backend.like.repository;
+
+import com.backend.like.entity.LikeTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class RedisLikeCountStore implements LikeCountStore {
+
+    // 필드가 있을 때만 HINCRBY (없는 필드를 0부터 세기 시작하면 실제 값과 어긋남)
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then
+                return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+            end
+            return nil
+            """, Long.class);
+
+    // 읽은 값(ARGV[2])에서 바뀌지 않았을 때만 제거 (보정 중 들어온 HINCRBY 를 잃지 않도록)
+    private static final RedisScript<Long> COMPARE_AND_DELETE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+                return redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String key(LikeTargetType type) {
+        return "like:count:" + type.name();
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+
+    @Override
+    public Long get(LikeTargetType type, Long targetId) {
+        String v = hash().get(key(type), String.valueOf(targetId));
+        return v == null ? null : Long.valueOf(v);
+    }
+
+    @Override
+    public Map<Long, Long> getAll(LikeTargetType type, List<Long> targetIds) {
+
+        List<String> fields = targetIds.stream().map(String::valueOf).toList();
+        List<String> values = hash().multiGet(key(type), fields);
+
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < targetIds.size(); i++) {
+            String v = values.get(i);
+            if (v != null) {
+                result.put(targetIds.get(i), Long.valueOf(v));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Long incrementIfPresent(LikeTargetType type, Long targetId, long delta) {
+        return redisTemplate.execute(
+                INCREMENT_IF_PRESENT,
+                List.of(key(type)),
+                String.valueOf(targetId),
+                String.valueOf(delta)
+        );
+    }
+
+    @Override
+    public void putIfAbsent(LikeTargetType type, Long targetId, long count) {
+        hash().putIfAbsent(key(type), String.valueOf(targetId), String.valueOf(count));
+    }
+
+    @Override
+    public boolean compareAndDelete(LikeTargetType type, Long targetId, long expected) {
+        Long result = redisTemplate.execute(
+                COMPARE_AND_DELETE,
+                List.of(key(type)),
+                String.valueOf(targetId),
+                String.valueOf(expected)
+        );
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public List<Long> targetIds(LikeTargetType type) {
+
+        List<Long> ids = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().count(1000).build();
+
+        try (Cursor<Map.Entry<String, String>> cursor = hash().scan(key(type), options)) {
+            cursor.forEachRemaining(e -> ids.add(Long.valueOf(e.getKey())));
+        }
+        return ids;
+    }
+}
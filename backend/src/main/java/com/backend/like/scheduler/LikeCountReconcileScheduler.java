@@ -0,0 +1,93 @@
+package com.backend.like.scheduler;
+
+import com.backend.like.entity.LikeTargetType;
+import com.backend.like.repository.LikeCountStore;
+import com.backend.like.repository.LikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 카운터(Redis) 정합성 보정
+ * <br/>
+ * 롤백/장애로 likes 테이블 집계값과 어긋난 카운터는 제거해 다음 조회 시 DB 에서 다시 적재.
+ * 값을 덮어쓰지 않는 이유: 좋아요는 DB 커밋 후 afterCommit 에서 카운터를 올리므로, 집계에 이미 포함된
+ * 좋아요의 증감이 뒤늦게 더해져 보정값이 다시 어긋날 수 있음
+ * <br/>
+ * 카운터를 먼저 읽고 DB 를 집계한 뒤, 카운터가 읽은 값 그대로일 때만 제거(CAS).
+ * 그 사이 좋아요/취소로 증감된 대상은 이번 보정에서 건너뜀
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LikeCountReconcileScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final LikeCountStore likeCountStore;
+    private final LikeRepository likeRepository;
+
+    // 매시 30분마다 보정
+    // 전체를 한 트랜잭션으로 묶으면 REPEATABLE READ 스냅샷이 고정되어 뒤 청크가 오래된 집계를 보므로 트랜잭션 없이 실행
+    @Scheduled(cron = "0 30 * * * *")
+    public void reconcileLikeCounts() {
+
+        for (LikeTargetType type : LikeTargetType.values()) {
+            List<Long> targetIds = likeCountStore.targetIds(type);
+
+            int repaired = 0;
+            int skipped = 0;
+            for (int from = 0; from < targetIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = targetIds.subList(from, Math.min(from + CHUNK_SIZE, targetIds.size()));
+                ChunkResult result = reconcileChunk(type, chunk);
+                repaired += result.repaired();
+                skipped += result.skipped();
+            }
+
+            log.info("[LikeCountReconcile] type={}, scanned={}, repaired={}, skipped={}",
+                    type, targetIds.size(), repaired, skipped);
+        }
+    }
+
+    private ChunkResult reconcileChunk(LikeTargetType type, List<Long> targetIds) {
+
+        // 비교 기준이 되는 카운터 값은 DB 집계보다 먼저 읽어야 그 사이 증감을 CAS 가 잡아냄
+        Map<Long, Long> cached = likeCountStore.getAll(type, targetIds);
+
+        Map<Long, Long> actual = likeRepository
+                .countByTargetIds(type, targetIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        LikeRepository.TargetCount::getTargetId,
+                        LikeRepository.TargetCount::getCnt
+                ));
+
+        int repaired = 0;
+        int skipped = 0;
+
+        for (Long id : targetIds) {
+            Long expected = cached.get(id);
+            if (expected == null) continue; // 스캔 뒤 이미 제거됨
+
+            // 좋아요가 0개가 된 대상도 제거 (다음 조회 시 다시 적재)
+            long cnt = actual.getOrDefault(id, 0L);
+            if (cnt > 0 && cnt == expected) continue;
+
+            if (likeCountStore.compareAndDelete(type, id, expected)) {
+                repaired++;
+            } else {
+                skipped++;
+            }
+        }
+
+        return new ChunkResult(repaired, skipped);
+    }
+
+    private record ChunkResult(int repaired, int skipped) {
+    }
+}
@@ -6,16 +6,21 @@ import com.backend.comment.repository.CommentRepository;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.like.entity.Like;
 import com.backend.like.entity.LikeTargetType;
+import com.backend.like.repository.LikeCountStore;
 import com.backend.like.repository.LikeRepository;
 import com.backend.like.service.LikeService;
 import com.backend.post.repository.PostRepository;
 import com.backend.user.entity.User;
 import com.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -25,11 +30,13 @@ import java.util.stream.Collectors;
 import static com.backend.global.exception.domain.CommentErrorCode.COMMENT_NOT_FOUND;
 import static com.backend.global.exception.domain.PostErrorCode.POST_NOT_FOUND;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class LikeServiceImpl implements LikeService {
 
     private final LikeRepository likeRepository;
+    private final LikeCountStore likeCountStore;
     private final UserRepository userRepository;
 
     private final PostRepository postRepository;
@@ -47,9 +54,12 @@ public class LikeServiceImpl implements LikeService {
         // 2번 누르면 취소
         if (likeRepository.existsByUser_IdAndTargetTypeAndTargetId(userId, type, targetId)) {
 
-            likeRepository.deleteByUser_IdAndTargetTypeAndTargetId(userId, type, targetId);
+            int deleted = likeRepository.deleteLike(userId, type, targetId);
 
-            long cnt = likeRepository.countByTargetTypeAndTargetId(type, targetId);
+            // 동시요청으로 이미 지워졌으면 카운터는 건드리지 않음
+            long cnt = deleted > 0
+                    ? adjustCount(type, targetId, -deleted)
+                    : count(type, targetId);
 
             return new LikeToggleResult(false, cnt);
         }
@@ -60,13 +70,11 @@ public class LikeServiceImpl implements LikeService {
         try {
             likeRepository.save(Like.of(user, type, targetId));
         } catch (DataIntegrityViolationException e) {
-            // 동시요청(더블클릭)으로 중복 insert 시 유니크 제약이 막음 -> 최종상태 조회로 반환
+            // 동시요청(더블클릭)으로 중복 insert 시 유니크 제약이 막음 -> 이미 좋아요 된 상태
+            return new LikeToggleResult(true, count(type, targetId));
         }
 
-        long cnt = likeRepository.countByTargetTypeAndTargetId(type, targetId);
-        boolean liked = likeRepository.existsByUser_IdAndTargetTypeAndTargetId(userId, type, targetId);
-
-        return new LikeToggleResult(liked, cnt);
+        return new LikeToggleResult(true, adjustCount(type, targetId, 1));
     }
 
     /**
@@ -76,7 +84,12 @@ public class LikeServiceImpl implements LikeService {
     @Transactional(readOnly = true)
     public long count(LikeTargetType type, Long targetId) {
 
-        return likeRepository.countByTargetTypeAndTargetId(type, targetId);
+        Long cached = likeCountStore.get(type, targetId);
+        if (cached != null) {
+            return cached;
+        }
+
+        return loadCount(type, targetId);
     }
 
     @Override
@@ -88,6 +101,50 @@ public class LikeServiceImpl implements LikeService {
         return likeRepository.existsByUser_IdAndTargetTypeAndTargetId(userId, type, targetId);
     }
 
+    // 카운터 증감은 커밋 후에만 반영 (롤백된 좋아요가 카운터에 남지 않도록)
+    // 응답 값은 현재 카운터 + delta, 카운터가 없으면 이 트랜잭션의 변경이 보이는 DB 집계 (적재는 하지 않음)
+    private long adjustCount(LikeTargetType type, Long targetId, long delta) {
+
+        Long cached = likeCountStore.get(type, targetId);
+        long expected = cached != null
+                ? Math.max(0L, cached + delta)
+                : likeRepository.countByTargetTypeAndTargetId(type, targetId);
+
+        afterCommit(() -> likeCountStore.incrementIfPresent(type, targetId, delta));
+
+        return expected;
+    }
+
+    // 카운터 반영 실패는 좋아요 저장에 영향을 주지 않음 (정합성 보정 스케줄러가 맞춤)
+    private void afterCommit(Runnable task) {
+        Runnable safe = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("[Like] count update failed", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+
+    private long loadCount(LikeTargetType type, Long targetId) {
+
+        long cnt = likeRepository.countByTargetTypeAndTargetId(type, targetId);
+        likeCountStore.putIfAbsent(type, targetId, cnt);
+
+        return cnt;
+    }
+
     private void validateTargetExists(LikeTargetType type, Long targetId) {
 
         switch (type) {
@@ -113,13 +170,33 @@ public class LikeServiceImpl implements LikeService {
             return Map.of();
         }
 
-        return likeRepository
-                .countByTargetIds(type, targetIds)
+        Map<Long, Long> result = new HashMap<>(likeCountStore.getAll(type, targetIds));
+
+        List<Long> missed = targetIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+
+        if (missed.isEmpty()) {
+            return result;
+        }
+
+        // 캐시에 없는 대상만 DB 집계 후 적재 (좋아요 0개인 대상도 0으로 적재)
+        Map<Long, Long> loaded = likeRepository
+                .countByTargetIds(type, missed)
                 .stream()
                 .collect(Collectors.toMap(
                         LikeRepository.TargetCount::getTargetId,
                         LikeRepository.TargetCount::getCnt
                 ));
+
+        for (Long id : missed) {
+            long cnt = loaded.getOrDefault(id, 0L);
+            likeCountStore.putIfAbsent(type, id, cnt);
+            result.put(id, cnt);
+        }
+
+        return result;
     }
 
     @Override
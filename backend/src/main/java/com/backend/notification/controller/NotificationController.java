@@ -4,13 +4,16 @@ import com.backend.global.util.CustomUserDetails;
 import com.backend.notification.dto.NotificationReadRequestDto;
 import com.backend.notification.dto.NotificationReadResponseDto;
 import com.backend.notification.dto.NotificationResponseDto;
+import com.backend.notification.dto.NotificationUnreadCountResponseDto;
 import com.backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,6 +33,26 @@ public class NotificationController {
         return notificationService.findMyNotifications(userDetails.getUserId(), pageable);
     }
 
+    /**
+     * 실시간 알림 구독 (SSE)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return notificationService.subscribe(userDetails.getUserId());
+    }
+
+    /**
+     * 안 읽은 알림 수
+     */
+    @GetMapping("/unread-count")
+    public NotificationUnreadCountResponseDto getUnreadCount(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        return notificationService.countUnread(userDetails.getUserId());
+    }
+
     /**
      * 알림 상세조회
      */
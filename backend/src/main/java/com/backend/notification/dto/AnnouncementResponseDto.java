@@ -1,6 +1,6 @@
 package com.backend.notification.dto;
 
-import com.backend.notification.entity.Notification;
+import com.backend.notification.entity.Announcement;
 
 import java.time.LocalDateTime;
 
@@ -8,10 +8,10 @@ public record AnnouncementResponseDto(
         String message,
         LocalDateTime createdAt
 ) {
-    public static AnnouncementResponseDto from(Notification notification) {
+    public static AnnouncementResponseDto from(Announcement announcement) {
         return new AnnouncementResponseDto(
-                notification.getMessage(),
-                notification.getCreatedAt()
+                announcement.getMessage(),
+                announcement.getCreatedAt()
         );
     }
 }
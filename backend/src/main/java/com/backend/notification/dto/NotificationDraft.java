@@ -0,0 +1,25 @@
+package com.backend.notification.dto;
+
+import com.backend.notification.entity.NotificationTargetType;
+import com.backend.notification.entity.NotificationType;
+
+/**
+ * 일괄 생성할 알림 한 건
+ */
+public record NotificationDraft(
+        Long receiverUserId,
+        NotificationType type,
+        NotificationTargetType targetType,
+        Long targetId,
+        NotificationContext context
+) {
+    public static NotificationDraft of(
+            Long receiverUserId,
+            NotificationType type,
+            NotificationTargetType targetType,
+            Long targetId,
+            NotificationContext context
+    ) {
+        return new NotificationDraft(receiverUserId, type, targetType, targetId, context);
+    }
+}
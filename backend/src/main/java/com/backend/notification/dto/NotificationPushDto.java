@@ -0,0 +1,43 @@
+package com.backend.notification.dto;
+
+import com.backend.notification.entity.NotificationTargetType;
+import com.backend.notification.entity.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * SSE 로 전달하는 새 알림
+ * <br/>
+ * 전체 공지는 사용자별 행을 INSERT ... SELECT 로 만들어 id 를 알 수 없으므로 notificationId 가 null.
+ * 이 경우 클라이언트는 "새 알림 있음" 신호로 보고 목록을 다시 조회
+ */
+public record NotificationPushDto(
+        Long notificationId,
+        NotificationType notificationType,
+        NotificationTargetType notificationTargetType,
+        Long targetId,
+        String title,
+        String message,
+        LocalDateTime createdAt,
+        Long unreadCount
+) {
+    public static NotificationPushDto from(
+            Long notificationId,
+            NotificationDraft draft,
+            LocalDateTime createdAt,
+            Long unreadCount
+    ) {
+        NotificationType.Message msg = draft.type().createMessage(draft.context());
+
+        return new NotificationPushDto(
+                notificationId,
+                draft.type(),
+                draft.targetType(),
+                draft.targetId(),
+                msg.title(),
+                msg.body(),
+                createdAt,
+                unreadCount
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.backend.notification.dto;
+
+public record NotificationUnreadCountResponseDto(
+        long unreadCount
+) {
+    public static NotificationUnreadCountResponseDto from(long unreadCount) {
+        return new NotificationUnreadCountResponseDto(unreadCount);
+    }
+}
@@ -0,0 +1,74 @@
+package com.backend.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 공지 발송 이력 (발송 1건당 1행)
+ * <br/>
+ * 사용자별 알림 사본(notifications)과 별개로 관리자 공지 목록 조회에 사용
+ * <br/>
+ * 발송은 회원 id 구간별로 커밋되므로 진행 위치(lastUserId)를 함께 기록해, 중간에 실패해도
+ * 이미 보낸 구간을 다시 보내지 않고 이어서 발송 (maxUserId 는 발송 시작 시점의 마지막 회원 id)
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "announcements",
+        indexes = @Index(name = "idx_announcement_created", columnList = "created_at")
+)
+public class Announcement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column
+    private Long adminId;
+
+    @Column(nullable = false)
+    private String message;
+
+    @Column(nullable = false)
+    private long recipientCount;
+
+    // 발송을 마친 구간의 끝 회원 id (구간 insert 와 같은 트랜잭션에서 갱신)
+    @Column
+    private Long lastUserId;
+
+    @Column
+    private Long maxUserId;
+
+    // 발송 완료 시각 (null 이면 발송 중이거나 중단됨)
+    @Column
+    private LocalDateTime completedAt;
+
+    @Column(name = "created_at")
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    private Announcement(Long adminId, String message, Long maxUserId) {
+        this.adminId = adminId;
+        this.message = message;
+        this.recipientCount = 0;
+        this.lastUserId = 0L;
+        this.maxUserId = maxUserId;
+        // 회원이 없으면 보낼 구간도 없음
+        this.completedAt = maxUserId == null ? LocalDateTime.now() : null;
+    }
+
+    public static Announcement start(Long adminId, String message, Long maxUserId) {
+        return new Announcement(adminId, message, maxUserId);
+    }
+
+    public boolean isCompleted() {
+        return completedAt != null;
+    }
+}
@@ -13,7 +13,15 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor
-@Table(name = "notifications")
+@Table(
+        name = "notifications",
+        indexes = {
+                // 내 알림 목록: user_id 범위 + created_at 정렬을 인덱스로 처리 (filesort 없음)
+                @Index(name = "idx_notification_user_created", columnList = "user_id, created_at, id"),
+                // 보관 기간 정리 대상 탐색
+                @Index(name = "idx_notification_read_at", columnList = "read_at")
+        }
+)
 public class Notification {
 
     @Id
@@ -0,0 +1,127 @@
+package com.backend.notification.entity;
+
+import com.backend.notification.dto.NotificationContext;
+import com.backend.notification.dto.NotificationDraft;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 생성 이벤트 (transactional outbox)
+ * <br/>
+ * 호출자 트랜잭션에서는 이 행만 저장하고, 실제 Notification 행은 디스패처가 배치로 생성
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "notification_outbox",
+        indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id")
+)
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "receiver_user_id", nullable = false)
+    private Long receiverUserId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private NotificationTargetType notificationTargetType;
+
+    @Column
+    private Long targetId;
+
+    @Column
+    private String actorName;
+
+    @Column
+    private String subject;
+
+    @Column
+    private Integer daysLeft;
+
+    @Column
+    private String announcement;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private NotificationOutbox(
+            Long receiverUserId,
+            NotificationType notificationType,
+            NotificationTargetType notificationTargetType,
+            Long targetId,
+            NotificationContext context
+    ) {
+        this.receiverUserId = receiverUserId;
+        this.notificationType = notificationType;
+        this.notificationTargetType = notificationTargetType;
+        this.targetId = targetId;
+        this.actorName = context.actorName();
+        this.subject = context.subject();
+        this.daysLeft = context.daysLeft();
+        this.announcement = context.announcement();
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    public static NotificationOutbox create(
+            Long receiverUserId,
+            NotificationType notificationType,
+            NotificationTargetType notificationTargetType,
+            Long targetId,
+            NotificationContext context
+    ) {
+        return new NotificationOutbox(
+                receiverUserId,
+                notificationType,
+                notificationTargetType,
+                targetId,
+                context
+        );
+    }
+
+    public NotificationDraft toDraft() {
+        return NotificationDraft.of(
+                receiverUserId,
+                notificationType,
+                notificationTargetType,
+                targetId,
+                new NotificationContext(actorName, subject, daysLeft, announcement)
+        );
+    }
+
+    /**
+     * 재시도 예약 (지수 백오프), maxAttempts 도달 시 FAILED 로 전환
+     */
+    public void retryLater(LocalDateTime now, long baseDelaySeconds, int maxAttempts) {
+        this.attempts++;
+
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        this.availableAt = now.plusSeconds(baseDelaySeconds << (this.attempts - 1));
+    }
+}
@@ -0,0 +1,6 @@
+package com.backend.notification.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,38 @@
+package com.backend.notification.repository;
+
+import com.backend.notification.entity.Announcement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
+
+    Page<Announcement> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    // 발송이 중단된 공지 (이력 적재로 들어온 행은 maxUserId 가 없으므로 제외)
+    @Query("""
+            select a from Announcement a
+            where a.completedAt is null
+            and a.maxUserId is not null
+            and a.createdAt < :startedBefore
+            order by a.id asc
+            """)
+    List<Announcement> findUnfinished(@Param("startedBefore") LocalDateTime startedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Announcement a
+            set a.completedAt = :completedAt
+            where a.id = :id
+            and a.completedAt is null
+            """)
+    int markCompleted(@Param("id") Long id, @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,151 @@
+package com.backend.notification.repository;
+
+import com.backend.notification.dto.NotificationDraft;
+import com.backend.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 일괄 insert
+ * <br/>
+ * IDENTITY 전략이라 JPA saveAll 은 건별 insert 가 나가므로,
+ * 청크마다 multi-row INSERT 한 번으로 저장 (receiver 는 user_id 로만 참조, 조회 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO notifications
+            (user_id, notification_type, notification_target_type, target_id, title, message, created_at)
+            VALUES
+            """;
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_FOR_USER_RANGE = """
+            INSERT INTO notifications
+            (user_id, notification_type, notification_target_type, target_id, title, message, created_at)
+            SELECT u.id, ?, ?, NULL, ?, ?, ?
+            FROM users u
+            WHERE u.id > ? AND u.id <= ?
+            """;
+
+    private static final String CLAIM_ANNOUNCEMENT_RANGE = """
+            UPDATE announcements SET last_user_id = ?
+            WHERE id = ? AND last_user_id = ?
+            """;
+
+    private static final String ADD_RECIPIENT_COUNT = """
+            UPDATE announcements SET recipient_count = recipient_count + ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 생성된 알림 id (drafts 와 같은 순서)
+     */
+    public List<Long> insertAll(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(drafts.size());
+
+        for (int from = 0; from < drafts.size(); from += CHUNK_SIZE) {
+            List<NotificationDraft> chunk = drafts.subList(from, Math.min(from + CHUNK_SIZE, drafts.size()));
+            ids.addAll(insertChunk(chunk, now));
+        }
+        return ids;
+    }
+
+    // multi-row INSERT 의 생성 키는 행 순서대로 반환됨
+    private List<Long> insertChunk(List<NotificationDraft> chunk, Timestamp now) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(chunk.size() * 7);
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) sql.append(',');
+            sql.append(ROW);
+
+            NotificationDraft d = chunk.get(i);
+            NotificationType.Message msg = d.type().createMessage(d.context());
+
+            args.add(d.receiverUserId());
+            args.add(d.type().name());
+            args.add(d.targetType().name());
+            args.add(d.targetId());
+            args.add(msg.title());
+            args.add(msg.body());
+            args.add(now);
+        }
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+
+        if (ids.size() != chunk.size()) {
+            throw new IllegalStateException("generated keys mismatch. expected=" + chunk.size() + ", actual=" + ids.size());
+        }
+        return ids;
+    }
+
+    public Long maxUserId() {
+        return jdbcTemplate.queryForObject("SELECT max(id) FROM users", Long.class);
+    }
+
+    /**
+     * 공지 한 구간(from, to] 의 회원에게 같은 알림을 INSERT ... SELECT 로 생성
+     * <br/>
+     * 공지 행의 진행 위치를 from -> to 로 옮기는 데 성공한 경우에만 insert 하고, 진행 위치/수신자 수 갱신과
+     * 같은 트랜잭션으로 커밋. 재시도나 다른 인스턴스가 같은 구간을 다시 실행해도 중복 생성되지 않음
+     * (먼저 잡은 쪽이 커밋할 때까지 공지 행 잠금에서 대기한 뒤 0건 갱신으로 끝남)
+     *
+     * @return 저장된 알림 수, 이미 다른 실행이 처리한 구간이면 -1
+     */
+    @Transactional
+    public long insertUserRange(Long announcementId, NotificationDraft draft, Timestamp createdAt, long from, long to) {
+        int claimed = jdbcTemplate.update(CLAIM_ANNOUNCEMENT_RANGE, to, announcementId, from);
+        if (claimed == 0) {
+            return -1;
+        }
+
+        NotificationType.Message msg = draft.type().createMessage(draft.context());
+
+        int inserted = jdbcTemplate.update(
+                INSERT_FOR_USER_RANGE,
+                draft.type().name(),
+                draft.targetType().name(),
+                msg.title(),
+                msg.body(),
+                createdAt,
+                from,
+                to
+        );
+
+        jdbcTemplate.update(ADD_RECIPIENT_COUNT, inserted, announcementId);
+        return inserted;
+    }
+}
@@ -0,0 +1,44 @@
+package com.backend.notification.repository;
+
+import com.backend.notification.entity.NotificationOutbox;
+import com.backend.notification.entity.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 처리 대상 선점 (여러 인스턴스/워커가 같은 행을 잡지 않도록 SKIP LOCKED)
+    @Query(value = """
+            SELECT * FROM notification_outbox
+            WHERE status = 'PENDING'
+            AND available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutbox> claimPending(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("""
+            delete from NotificationOutbox o
+            where o.id in :ids
+            """)
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("""
+            select min(o.createdAt) from NotificationOutbox o
+            where o.status = :status
+            """)
+    Optional<LocalDateTime> findOldestCreatedAt(@Param("status") OutboxStatus status);
+}
@@ -1,7 +1,6 @@
 package com.backend.notification.repository;
 
 import com.backend.notification.entity.Notification;
-import com.backend.notification.entity.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,6 +14,8 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     Page<Notification> findByUser_IdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    long countByUser_IdAndReadAtIsNull(Long userId);
+
     @Modifying
     @Query("""
             update Notification n
@@ -25,19 +26,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
             """)
     int UpdateReadByUserAndIds(Long userId, List<Long> ids, LocalDateTime now);
 
+    // 보관 기간이 지난 읽은 알림 (idx_notification_read_at 순서, id 만 조회)
+    @Query("""
+            select n.id from Notification n
+            where n.readAt < :cutoff
+            order by n.readAt asc, n.id asc
+            """)
+    List<Long> findReadIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
     @Query("""
-            select n from Notification n
-            where n.notificationType = :type
-            and n.id in (
-                select min(n2.id)
-                from Notification n2
-                where n2.notificationType = :type
-                group by n2.message, function('DATE', n2.createdAt)
-            )
-            order by n.createdAt desc
+            delete from Notification n
+            where n.id in :ids
             """)
-    Page<Notification> findDistinctAnnouncements(
-            @Param("type") NotificationType type,
-            Pageable pageable
-    );
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
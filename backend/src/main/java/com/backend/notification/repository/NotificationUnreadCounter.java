@@ -0,0 +1,32 @@
+package com.backend.notification.repository;
+
+import java.util.Map;
+
+/**
+ * 사용자별 안 읽은 알림 수 캐시
+ * <br/>
+ * 값이 없으면(미적재/만료/무효화) DB 에서 다시 세어 채움. 증감은 값이 있을 때만 반영
+ */
+public interface NotificationUnreadCounter {
+
+    Long get(Long userId);
+
+    void putIfAbsent(Long userId, long count);
+
+    /**
+     * @return 반영 후 값, 캐시에 없으면 null
+     */
+    Long incrementIfPresent(Long userId, long delta);
+
+    /**
+     * 사용자별 증가분 일괄 반영 (없는 사용자는 건너뜀)
+     *
+     * @return 반영 후 값 (캐시에 있던 사용자만)
+     */
+    Map<Long, Long> incrementAllIfPresent(Map<Long, Long> deltas);
+
+    /**
+     * 전체 사용자 캐시 무효화 (전체 공지처럼 모든 사용자의 값이 바뀔 때)
+     */
+    void invalidateAll();
+}
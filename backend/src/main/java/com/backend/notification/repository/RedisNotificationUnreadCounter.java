@@ -0,0 +1,117 @@
+package com.backend.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class RedisNotificationUnreadCounter implements NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final int UNLINK_BATCH = 1000;
+
+    // 키가 있을 때만 INCRBY, 음수로 내려가지 않게 보정
+    private static final String INCREMENT_SOURCE = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                local v = redis.call('INCRBY', KEYS[1], ARGV[1])
+                if v < 0 then
+                    redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                    v = 0
+                end
+                return v
+            end
+            return nil
+            """;
+
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT =
+            new DefaultRedisScript<>(INCREMENT_SOURCE, Long.class);
+
+    private static final byte[] INCREMENT_SCRIPT = INCREMENT_SOURCE.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    @Override
+    public Long get(Long userId) {
+        String v = redisTemplate.opsForValue().get(key(userId));
+        return v == null ? null : Long.valueOf(v);
+    }
+
+    @Override
+    public void putIfAbsent(Long userId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), TTL);
+    }
+
+    @Override
+    public Long incrementIfPresent(Long userId, long delta) {
+        return redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(key(userId)), String.valueOf(delta));
+    }
+
+    @Override
+    public Map<Long, Long> incrementAllIfPresent(Map<Long, Long> deltas) {
+
+        if (deltas.isEmpty()) return Map.of();
+
+        List<Long> userIds = new ArrayList<>(deltas.keySet());
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.scriptingCommands().eval(
+                        INCREMENT_SCRIPT,
+                        ReturnType.INTEGER,
+                        1,
+                        key(userId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(deltas.get(userId)).getBytes(StandardCharsets.UTF_8)
+                );
+            }
+            return null;
+        });
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            if (results.get(i) instanceof Long v) {
+                counts.put(userIds.get(i), v);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public void invalidateAll() {
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(UNLINK_BATCH).build();
+        List<String> batch = new ArrayList<>(UNLINK_BATCH);
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= UNLINK_BATCH) {
+                    redisTemplate.unlink(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            redisTemplate.unlink(batch);
+        }
+    }
+}
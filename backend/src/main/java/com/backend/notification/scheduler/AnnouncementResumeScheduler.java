@@ -0,0 +1,38 @@
+package com.backend.notification.scheduler;
+
+import com.backend.notification.service.AdminNotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 중단된 전체 공지 이어서 발송
+ * <br/>
+ * 발송 중인 요청과 겹쳐도 구간 단위로 선점하므로 중복 생성은 없지만,
+ * 불필요한 경합을 줄이도록 시작한 지 STALE_MINUTES 가 지난 공지만 대상
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnnouncementResumeScheduler {
+
+    private static final long STALE_MINUTES = 10;
+
+    private final AdminNotificationService adminNotificationService;
+
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public void resumeUnfinished() {
+        try {
+            int resumed = adminNotificationService.resumeUnfinished(LocalDateTime.now().minusMinutes(STALE_MINUTES));
+            if (resumed > 0) {
+                log.info("[AnnouncementResume] resumed={}", resumed);
+            }
+        } catch (Exception e) {
+            // 진행 위치는 커밋된 구간까지 남아 있으므로 다음 실행 때 이어서 처리
+            log.error("[AnnouncementResume] failed", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.backend.notification.scheduler;
+
+import com.backend.notification.service.NotificationOutboxService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * notification_outbox -> notifications 디스패처
+ * <br/>
+ * 1초마다 virtual thread 워커를 하나 띄워 배치를 비우고, 배치가 가득 차면(적체) 워커를 최대 MAX_WORKERS 까지 늘림.
+ * 워커 수와 워커당 배치 수를 제한해 적체가 생겨도 notifications 쓰기 부하는 일정하게 유지 (나머지는 outbox 에 대기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_WORKERS = 4;
+    private static final int MAX_BATCHES_PER_WORKER = 20;
+    private static final long LAG_WARN_MS = 60_000;
+
+    private final NotificationOutboxService outboxService;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore workerSlots = new Semaphore(MAX_WORKERS);
+
+    private final AtomicLong dispatchedTotal = new AtomicLong();
+    private final AtomicLong retriedTotal = new AtomicLong();
+
+    @Scheduled(fixedDelay = 1000)
+    public void dispatch() {
+        trySpawnWorker();
+    }
+
+    // 1분마다 적체 현황 기록
+    @Scheduled(fixedDelay = 60_000)
+    public void reportBacklog() {
+        NotificationOutboxService.Backlog backlog = outboxService.backlog();
+
+        if (backlog.oldestLagMs() > LAG_WARN_MS) {
+            log.warn("[NotificationOutbox] lagging. pending={}, failed={}, oldestLagMs={}, dispatchedTotal={}, retriedTotal={}",
+                    backlog.pending(), backlog.failed(), backlog.oldestLagMs(), dispatchedTotal.get(), retriedTotal.get());
+        } else {
+            log.info("[NotificationOutbox] pending={}, failed={}, oldestLagMs={}, dispatchedTotal={}, retriedTotal={}",
+                    backlog.pending(), backlog.failed(), backlog.oldestLagMs(), dispatchedTotal.get(), retriedTotal.get());
+        }
+    }
+
+    private void trySpawnWorker() {
+        if (workers.isShutdown() || !workerSlots.tryAcquire()) {
+            return;
+        }
+        workers.execute(this::drain);
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_WORKER; i++) {
+                NotificationOutboxService.DispatchResult result = outboxService.dispatchBatch(BATCH_SIZE);
+
+                if (result.claimed() == 0) break;
+
+                dispatchedTotal.addAndGet(result.dispatched());
+                retriedTotal.addAndGet(result.retried());
+
+                log.debug("[NotificationOutbox] claimed={}, dispatched={}, retried={}, maxLagMs={}",
+                        result.claimed(), result.dispatched(), result.retried(), result.maxLagMs());
+
+                if (!result.isFull(BATCH_SIZE)) break;
+
+                // 적체 시 워커 확장
+                trySpawnWorker();
+            }
+        } catch (TransientDataAccessException | RecoverableDataAccessException e) {
+            // 배치가 롤백돼 선점이 풀림, 다음 실행에서 다시 처리
+            log.warn("[NotificationOutbox] batch rolled back on transient error, will retry", e);
+        } catch (Exception e) {
+            log.error("[NotificationOutbox] dispatch failed", e);
+        } finally {
+            workerSlots.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
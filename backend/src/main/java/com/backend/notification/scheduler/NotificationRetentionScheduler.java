@@ -0,0 +1,70 @@
+package com.backend.notification.scheduler;
+
+import com.backend.global.properties.NotificationRetentionProperties;
+import com.backend.notification.service.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private final NotificationRetentionService notificationRetentionService;
+    private final NotificationRetentionProperties properties;
+
+    // 매일 3시 30분 보관 기간이 지난 읽은 알림 삭제
+    // 작은 배치로 나눠 커밋하므로 전체를 하나의 트랜잭션으로 묶지 않음
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeReadNotifications() {
+        if (!properties.enabled()) return;
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.readDays());
+
+        long startedAt = System.currentTimeMillis();
+        int batches = 0;
+        long deleted = 0;
+
+        log.info("[NotificationRetention] purge start. cutoff={}", cutoff);
+
+        while (true) {
+            int removed;
+            try {
+                removed = notificationRetentionService.purgeReadBatch(cutoff, properties.batchSize());
+            } catch (Exception e) {
+                // 커밋된 배치는 유지, 남은 행은 다음 실행 때 처리
+                log.error("[NotificationRetention] purge batch failed. batch={}", batches + 1, e);
+                break;
+            }
+
+            if (removed == 0) break;
+
+            batches++;
+            deleted += removed;
+
+            if (removed < properties.batchSize()) break;
+
+            if (!pause()) break;
+        }
+
+        log.info("[NotificationRetention] purge finished. batches={}, deleted={}, elapsedMs={}",
+                batches,
+                deleted,
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean pause() {
+        if (properties.pauseMs() <= 0) return true;
+        try {
+            Thread.sleep(properties.pauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
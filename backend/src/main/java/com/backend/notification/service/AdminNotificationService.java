@@ -4,9 +4,14 @@ import com.backend.notification.dto.AnnouncementResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+
 public interface AdminNotificationService {
 
     void announceToAll(Long adminId, String message);
 
+    // 중간에 실패한 전체 공지를 남은 구간부터 이어서 발송
+    int resumeUnfinished(LocalDateTime startedBefore);
+
     Page<AnnouncementResponseDto> getAnnouncementList(Long userId, Pageable pageable);
 }
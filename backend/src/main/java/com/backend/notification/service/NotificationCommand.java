@@ -1,24 +1,32 @@
 package com.backend.notification.service;
 
 import com.backend.notification.dto.NotificationContext;
-import com.backend.notification.entity.Notification;
+import com.backend.notification.dto.NotificationDraft;
+import com.backend.notification.entity.NotificationOutbox;
 import com.backend.notification.entity.NotificationType;
 import com.backend.notification.entity.NotificationTargetType;
-import com.backend.notification.repository.NotificationRepository;
-import com.backend.user.entity.User;
-import com.backend.user.repository.UserRepository;
+import com.backend.notification.repository.NotificationBulkRepository;
+import com.backend.notification.repository.NotificationOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class NotificationCommand {
 
-    private final UserRepository userRepository;
-    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationPushService notificationPushService;
 
 
+    /**
+     * 알림 생성 요청
+     * <br/>
+     * 호출자 트랜잭션에는 outbox 이벤트만 기록하고, Notification 행은 NotificationOutboxDispatcher 가 비동기로 생성
+     */
     @Transactional
     public void createNotification(
             Long receiverUserId,
@@ -27,18 +35,26 @@ public class NotificationCommand {
             Long targetId,
             NotificationContext context
     ) {
-        User receiver = userRepository.findByIdOrThrow(receiverUserId);
-
-        NotificationType.Message msg = type.createMessage(context);
-
-        Notification notification = Notification.create(
-                receiver,
-                type,
-                notificationTargetType,
-                targetId,
-                msg.title(),
-                msg.body()
+        notificationOutboxRepository.save(
+                NotificationOutbox.create(
+                        receiverUserId,
+                        type,
+                        notificationTargetType,
+                        targetId,
+                        context
+                )
         );
-        notificationRepository.save(notification);
     }
-}
\ No newline at end of file
+
+    /**
+     * 알림 일괄 생성 (수신자 조회 없이 청크 단위 multi-row insert)
+     *
+     * @return 저장된 알림 수
+     */
+    @Transactional
+    public int createNotifications(List<NotificationDraft> drafts) {
+        List<Long> ids = notificationBulkRepository.insertAll(drafts);
+        notificationPushService.notifyCreated(drafts, ids);
+        return ids.size();
+    }
+}
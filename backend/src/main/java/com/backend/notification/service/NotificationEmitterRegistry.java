@@ -0,0 +1,111 @@
+package com.backend.notification.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 이 인스턴스에 연결된 SSE emitter 목록 (사용자별)
+ * <br/>
+ * 연결은 async servlet 으로 유지되어 대기 중에는 스레드를 점유하지 않음.
+ * 전송은 virtual thread 에서 처리해 느린 클라이언트가 호출 스레드를 막지 않도록 함
+ */
+@Slf4j
+@Component
+public class NotificationEmitterRegistry {
+
+    private static final long TIMEOUT_MS = 30 * 60 * 1000L;
+    private static final int MAX_EMITTERS_PER_USER = 5;
+
+    private final Map<Long, Deque<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SseEmitter register(Long userId) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
+        Deque<SseEmitter> userEmitters = emitters.compute(userId, (id, current) -> {
+            Deque<SseEmitter> deque = current == null ? new ConcurrentLinkedDeque<>() : current;
+            deque.addLast(emitter);
+            return deque;
+        });
+
+        // 탭을 계속 여는 경우 오래된 연결부터 정리
+        while (userEmitters.size() > MAX_EMITTERS_PER_USER) {
+            SseEmitter oldest = userEmitters.pollFirst();
+            if (oldest != null) oldest.complete();
+        }
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    public void send(Long userId, String eventName, Object data) {
+        Deque<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) return;
+
+        for (SseEmitter emitter : userEmitters) {
+            senders.execute(() -> sendNow(userId, emitter, SseEmitter.event().name(eventName).data(data)));
+        }
+    }
+
+    public void sendToAll(String eventName, Object data) {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                senders.execute(() -> sendNow(userId, emitter, SseEmitter.event().name(eventName).data(data)));
+            }
+        });
+    }
+
+    public int connectionCount() {
+        return emitters.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    // 프록시/로드밸런서 idle timeout 방지 및 끊긴 연결 정리
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                senders.execute(() -> sendNow(userId, emitter, SseEmitter.event().comment("ping")));
+            }
+        });
+    }
+
+    private void sendNow(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitter);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        emitters.values().forEach(userEmitters -> userEmitters.forEach(SseEmitter::complete));
+        emitters.clear();
+        senders.shutdown();
+    }
+}
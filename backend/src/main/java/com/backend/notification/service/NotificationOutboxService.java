@@ -0,0 +1,23 @@
+package com.backend.notification.service;
+
+public interface NotificationOutboxService {
+
+    /**
+     * 대기 중인 outbox 이벤트를 최대 batchSize 건 선점해 알림으로 생성 (배치 단위 커밋)
+     */
+    DispatchResult dispatchBatch(int batchSize);
+
+    /**
+     * 대기 건수와 가장 오래된 이벤트의 지연 시간
+     */
+    Backlog backlog();
+
+    record DispatchResult(int claimed, int dispatched, int retried, long maxLagMs) {
+        public boolean isFull(int batchSize) {
+            return claimed >= batchSize;
+        }
+    }
+
+    record Backlog(long pending, long failed, long oldestLagMs) {
+    }
+}
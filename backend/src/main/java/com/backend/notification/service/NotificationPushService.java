@@ -0,0 +1,180 @@
+package com.backend.notification.service;
+
+import com.backend.notification.dto.NotificationDraft;
+import com.backend.notification.dto.NotificationPushDto;
+import com.backend.notification.dto.NotificationUnreadCountResponseDto;
+import com.backend.notification.repository.NotificationUnreadCounter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 생성/읽음 후 안 읽은 수 갱신 및 SSE 푸시
+ * <br/>
+ * 수신자가 어느 인스턴스에 연결돼 있는지 모르므로 Redis pub/sub 으로 모든 인스턴스에 전달하고,
+ * 각 인스턴스는 자기 NotificationEmitterRegistry 에 연결된 사용자에게만 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushService implements MessageListener {
+
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_UNREAD = "unread";
+
+    private static final String CHANNEL = "notification:push";
+    private static final byte[] CHANNEL_BYTES = CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final NotificationUnreadCounter unreadCounter;
+    private final NotificationEmitterRegistry emitterRegistry;
+    private final ObjectMapper objectMapper;
+
+    // userId 가 null 이면 연결된 모든 사용자 대상
+    record PushMessage(Long userId, String event, JsonNode data) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 알림이 생성된 뒤(커밋 후) 안 읽은 수 증가 + 푸시
+     *
+     * @param notificationIds 생성된 알림 id (drafts 와 같은 순서)
+     */
+    public void notifyCreated(List<NotificationDraft> drafts, List<Long> notificationIds) {
+        if (drafts.isEmpty()) return;
+
+        afterCommit(() -> {
+            Map<Long, Long> deltas = new HashMap<>();
+            drafts.forEach(d -> deltas.merge(d.receiverUserId(), 1L, Long::sum));
+
+            Map<Long, Long> unreadCounts = unreadCounter.incrementAllIfPresent(deltas);
+            LocalDateTime now = LocalDateTime.now();
+
+            List<PushMessage> messages = new ArrayList<>(drafts.size());
+            for (int i = 0; i < drafts.size(); i++) {
+                NotificationDraft d = drafts.get(i);
+                messages.add(new PushMessage(
+                        d.receiverUserId(),
+                        EVENT_NOTIFICATION,
+                        objectMapper.valueToTree(NotificationPushDto.from(
+                                notificationIds.get(i), d, now, unreadCounts.get(d.receiverUserId())
+                        ))
+                ));
+            }
+            publish(messages);
+        });
+    }
+
+    /**
+     * 전체 공지 생성 후 모든 사용자의 안 읽은 수를 무효화하고 연결된 사용자 전체에 푸시
+     * (사용자별 알림 id 가 없으므로 notificationId 는 null, 클라이언트는 목록을 다시 조회)
+     */
+    public void notifyBroadcast(NotificationDraft draft) {
+        afterCommit(() -> {
+            unreadCounter.invalidateAll();
+
+            publish(List.of(new PushMessage(
+                    null,
+                    EVENT_NOTIFICATION,
+                    objectMapper.valueToTree(NotificationPushDto.from(null, draft, LocalDateTime.now(), null))
+            )));
+        });
+    }
+
+    /**
+     * 읽음 처리/삭제 후 안 읽은 수 감소 + 푸시 (다른 탭/기기 동기화)
+     */
+    public void notifyRead(Long userId, int readCount) {
+        if (readCount <= 0) return;
+
+        afterCommit(() -> {
+            Long unread = unreadCounter.incrementIfPresent(userId, -readCount);
+            if (unread == null) return;
+
+            publish(List.of(new PushMessage(
+                    userId,
+                    EVENT_UNREAD,
+                    objectMapper.valueToTree(NotificationUnreadCountResponseDto.from(unread))
+            )));
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PushMessage push = objectMapper.readValue(message.getBody(), PushMessage.class);
+
+            if (push.userId() == null) {
+                emitterRegistry.sendToAll(push.event(), push.data());
+            } else {
+                emitterRegistry.send(push.userId(), push.event(), push.data());
+            }
+        } catch (Exception e) {
+            log.warn("[NotificationPush] invalid message", e);
+        }
+    }
+
+    private void publish(List<PushMessage> messages) {
+        List<byte[]> payloads = new ArrayList<>(messages.size());
+        for (PushMessage m : messages) {
+            try {
+                payloads.add(objectMapper.writeValueAsBytes(m));
+            } catch (JsonProcessingException e) {
+                log.warn("[NotificationPush] serialize failed. userId={}", m.userId(), e);
+            }
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] payload : payloads) {
+                connection.publish(CHANNEL_BYTES, payload);
+            }
+            return null;
+        });
+    }
+
+    // 푸시/카운터 실패가 알림 저장에 영향을 주지 않도록 커밋 후 실행, 예외는 기록만
+    private void afterCommit(Runnable task) {
+        Runnable safe = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("[NotificationPush] push failed", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
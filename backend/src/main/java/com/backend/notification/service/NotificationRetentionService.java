@@ -0,0 +1,13 @@
+package com.backend.notification.service;
+
+import java.time.LocalDateTime;
+
+public interface NotificationRetentionService {
+
+    /**
+     * cutoff 이전에 읽은 알림을 최대 batchSize 건 삭제 (배치 단위 커밋)
+     *
+     * @return 삭제된 행 수
+     */
+    int purgeReadBatch(LocalDateTime cutoff, int batchSize);
+}
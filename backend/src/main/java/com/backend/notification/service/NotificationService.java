@@ -2,8 +2,10 @@ package com.backend.notification.service;
 
 import com.backend.notification.dto.NotificationReadResponseDto;
 import com.backend.notification.dto.NotificationResponseDto;
+import com.backend.notification.dto.NotificationUnreadCountResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,5 +19,8 @@ public interface NotificationService {
 
     NotificationReadResponseDto readNotifications(Long userId, List<Long> ids);
 
+    NotificationUnreadCountResponseDto countUnread(Long userId);
+
+    SseEmitter subscribe(Long userId);
 
 }
@@ -3,46 +3,108 @@ package com.backend.notification.service.impl;
 import com.backend.global.validator.RoleValidator;
 import com.backend.notification.dto.AnnouncementResponseDto;
 import com.backend.notification.dto.NotificationContext;
-import com.backend.notification.entity.Notification;
+import com.backend.notification.dto.NotificationDraft;
+import com.backend.notification.entity.Announcement;
 import com.backend.notification.entity.NotificationTargetType;
 import com.backend.notification.entity.NotificationType;
-import com.backend.notification.repository.NotificationRepository;
+import com.backend.notification.repository.AnnouncementRepository;
+import com.backend.notification.repository.NotificationBulkRepository;
 import com.backend.notification.service.AdminNotificationService;
-import com.backend.notification.service.NotificationCommand;
-import com.backend.user.repository.UserRepository;
+import com.backend.notification.service.NotificationPushService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminNotificationServiceImpl implements AdminNotificationService {
 
-    private final UserRepository userRepository;
-    private final NotificationRepository notificationRepository;
-    private final NotificationCommand notificationCommand;
+    private static final int ANNOUNCE_USER_ID_RANGE = 10_000;
+
+    private final AnnouncementRepository announcementRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationPushService notificationPushService;
     private final RoleValidator roleValidator;
 
     /**
      * 전체 공지
+     * <br/>
+     * 공지 행을 먼저 저장한 뒤 회원 id 구간별 INSERT ... SELECT 로 생성 (구간마다 커밋, 회원 수와 무관한 메모리 사용).
+     * 중간에 실패하면 공지 행에 남은 진행 위치부터 스케줄러가 이어서 발송
      */
     @Override
-    @Transactional
     public void announceToAll(Long adminId, String message) {
 
-        userRepository
-                .findAll()
-                .forEach(u ->
-                        notificationCommand.createNotification(
-                                u.getId(),
-                                NotificationType.ANNOUNCEMENT,
-                                NotificationTargetType.NONE,
-                                null,
-                                NotificationContext.forAnnouncement(message)
-                        )
-                );
+        long startedAt = System.currentTimeMillis();
+
+        Announcement announcement = announcementRepository.save(
+                Announcement.start(adminId, message, notificationBulkRepository.maxUserId())
+        );
+
+        long created = deliver(announcement);
+
+        log.info("[Announcement] id={}, adminId={}, created={}, elapsedMs={}",
+                announcement.getId(), adminId, created, System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public int resumeUnfinished(LocalDateTime startedBefore) {
+
+        List<Announcement> unfinished = announcementRepository.findUnfinished(startedBefore);
+
+        for (Announcement announcement : unfinished) {
+            long created = deliver(announcement);
+
+            log.info("[Announcement] resumed. id={}, fromUserId={}, created={}",
+                    announcement.getId(), announcement.getLastUserId(), created);
+        }
+        return unfinished.size();
+    }
+
+    // 남은 구간 발송, 다른 실행이 이미 진행한 구간을 만나면 그쪽에 맡기고 중단
+    private long deliver(Announcement announcement) {
+
+        if (announcement.isCompleted()) {
+            return 0;
+        }
+
+        NotificationDraft draft = NotificationDraft.of(
+                null,
+                NotificationType.ANNOUNCEMENT,
+                NotificationTargetType.NONE,
+                null,
+                NotificationContext.forAnnouncement(announcement.getMessage())
+        );
+
+        // 이어서 발송한 구간도 최초 발송과 같은 생성 시각으로 저장
+        Timestamp createdAt = Timestamp.valueOf(announcement.getCreatedAt());
+        long maxUserId = announcement.getMaxUserId();
+        long created = 0;
+
+        for (long from = announcement.getLastUserId(); from < maxUserId; from += ANNOUNCE_USER_ID_RANGE) {
+            long to = Math.min(from + ANNOUNCE_USER_ID_RANGE, maxUserId);
+
+            long inserted = notificationBulkRepository.insertUserRange(announcement.getId(), draft, createdAt, from, to);
+            if (inserted < 0) {
+                log.info("[Announcement] range already taken by another run. id={}, fromUserId={}",
+                        announcement.getId(), from);
+                return created;
+            }
+            created += inserted;
+        }
+
+        if (announcementRepository.markCompleted(announcement.getId(), LocalDateTime.now()) > 0) {
+            notificationPushService.notifyBroadcast(draft);
+        }
+        return created;
     }
 
     /**
@@ -54,11 +116,8 @@ public class AdminNotificationServiceImpl implements AdminNotificationService {
 
         roleValidator.validateAdmin(userId);
 
-        Page<Notification> announcements = notificationRepository
-                .findDistinctAnnouncements(
-                        NotificationType.ANNOUNCEMENT,
-                        pageable
-                );
+        Page<Announcement> announcements = announcementRepository
+                .findAllByOrderByCreatedAtDescIdDesc(pageable);
 
         return announcements.map(AnnouncementResponseDto::from);
     }
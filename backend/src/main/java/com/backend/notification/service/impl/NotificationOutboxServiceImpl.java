@@ -0,0 +1,120 @@
+package com.backend.notification.service.impl;
+
+import com.backend.notification.dto.NotificationDraft;
+import com.backend.notification.entity.NotificationOutbox;
+import com.backend.notification.entity.OutboxStatus;
+import com.backend.notification.repository.NotificationBulkRepository;
+import com.backend.notification.repository.NotificationOutboxRepository;
+import com.backend.notification.service.NotificationOutboxService;
+import com.backend.notification.service.NotificationPushService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_BASE_DELAY_SECONDS = 10;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationPushService notificationPushService;
+
+    @Override
+    @Transactional
+    public DispatchResult dispatchBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<NotificationOutbox> claimed = outboxRepository.claimPending(now, batchSize);
+        if (claimed.isEmpty()) {
+            return new DispatchResult(0, 0, 0, 0);
+        }
+
+        List<Long> doneIds = new ArrayList<>(claimed.size());
+        List<NotificationDraft> doneDrafts = new ArrayList<>(claimed.size());
+        List<Long> notificationIds = new ArrayList<>(claimed.size());
+        int retried = 0;
+
+        try {
+            List<NotificationDraft> drafts = claimed.stream().map(NotificationOutbox::toDraft).toList();
+            notificationIds.addAll(notificationBulkRepository.insertAll(drafts));
+            claimed.forEach(o -> doneIds.add(o.getId()));
+            doneDrafts.addAll(drafts);
+        } catch (DataAccessException e) {
+            // 데드락/락 대기 초과 등은 InnoDB 가 트랜잭션 전체를 이미 롤백해 SKIP LOCKED 선점도 풀렸으므로
+            // 건별 처리하지 않고 배치째 롤백 -> 다음 실행에서 다시 선점
+            rethrowIfTransient(e);
+
+            // 배치 insert 실패 시 건별로 나눠 문제 이벤트만 재시도 대상으로 분리
+            log.warn("[NotificationOutbox] batch insert failed, falling back to single inserts. size={}", claimed.size(), e);
+
+            for (NotificationOutbox o : claimed) {
+                NotificationDraft draft = o.toDraft();
+                Long notificationId = insertOne(draft);
+                if (notificationId != null) {
+                    doneIds.add(o.getId());
+                    doneDrafts.add(draft);
+                    notificationIds.add(notificationId);
+                } else {
+                    o.retryLater(now, RETRY_BASE_DELAY_SECONDS, MAX_ATTEMPTS);
+                    retried++;
+                    if (o.getStatus() == OutboxStatus.FAILED) {
+                        log.error("[NotificationOutbox] giving up. outboxId={}, attempts={}", o.getId(), o.getAttempts());
+                    }
+                }
+            }
+        }
+
+        if (!doneIds.isEmpty()) {
+            outboxRepository.deleteByIds(doneIds);
+            notificationPushService.notifyCreated(doneDrafts, notificationIds);
+        }
+
+        long maxLagMs = Duration.between(claimed.getFirst().getCreatedAt(), now).toMillis();
+
+        return new DispatchResult(claimed.size(), doneIds.size(), retried, maxLagMs);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Backlog backlog() {
+        long pending = outboxRepository.countByStatus(OutboxStatus.PENDING);
+        long failed = outboxRepository.countByStatus(OutboxStatus.FAILED);
+
+        long oldestLagMs = outboxRepository.findOldestCreatedAt(OutboxStatus.PENDING)
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis())
+                .orElse(0L);
+
+        return new Backlog(pending, failed, oldestLagMs);
+    }
+
+    // 실패하면 null
+    private Long insertOne(NotificationDraft draft) {
+        try {
+            return notificationBulkRepository.insertAll(List.of(draft)).getFirst();
+        } catch (DataAccessException e) {
+            rethrowIfTransient(e);
+            log.warn("[NotificationOutbox] insert failed. receiverUserId={}, type={}",
+                    draft.receiverUserId(), draft.type(), e);
+            return null;
+        }
+    }
+
+    private void rethrowIfTransient(DataAccessException e) {
+        if (e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException) {
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.notification.service.impl;
+
+import com.backend.notification.repository.NotificationRepository;
+import com.backend.notification.service.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    @Transactional
+    public int purgeReadBatch(LocalDateTime cutoff, int batchSize) {
+
+        // (read_at, id) 인덱스 순서로 대상 id 만 먼저 조회 후 PK 로 삭제 -> 배치 크기만큼만 잠금
+        List<Long> ids = notificationRepository.findReadIdsBefore(cutoff, PageRequest.of(0, batchSize));
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return notificationRepository.deleteByIds(ids);
+    }
+}
@@ -4,14 +4,19 @@ import com.backend.global.exception.domain.NotificationErrorCode;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.notification.dto.NotificationReadResponseDto;
 import com.backend.notification.dto.NotificationResponseDto;
+import com.backend.notification.dto.NotificationUnreadCountResponseDto;
 import com.backend.notification.entity.Notification;
 import com.backend.notification.repository.NotificationRepository;
+import com.backend.notification.repository.NotificationUnreadCounter;
+import com.backend.notification.service.NotificationEmitterRegistry;
+import com.backend.notification.service.NotificationPushService;
 import com.backend.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +26,9 @@ import java.util.List;
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationEmitterRegistry notificationEmitterRegistry;
+    private final NotificationPushService notificationPushService;
 
 
     /**
@@ -65,6 +73,10 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         notificationRepository.delete(notification);
+
+        if (notification.getReadAt() == null) {
+            notificationPushService.notifyRead(userId, 1);
+        }
     }
 
     /**
@@ -77,6 +89,40 @@ public class NotificationServiceImpl implements NotificationService {
         int updated = notificationRepository
                 .UpdateReadByUserAndIds(userId, ids, LocalDateTime.now());
 
+        notificationPushService.notifyRead(userId, updated);
+
         return NotificationReadResponseDto.from(ids.size(), updated);
     }
+
+    /**
+     * 안 읽은 알림 수 (Redis 캐시, 없을 때만 DB 에서 세어 적재)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationUnreadCountResponseDto countUnread(Long userId) {
+        Long cached = notificationUnreadCounter.get(userId);
+        if (cached != null) {
+            return NotificationUnreadCountResponseDto.from(cached);
+        }
+
+        long count = notificationRepository.countByUser_IdAndReadAtIsNull(userId);
+        notificationUnreadCounter.putIfAbsent(userId, count);
+
+        return NotificationUnreadCountResponseDto.from(count);
+    }
+
+    /**
+     * 실시간 알림 구독 (SSE), 연결 직후 현재 안 읽은 수를 한 번 전송
+     */
+    @Override
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = notificationEmitterRegistry.register(userId);
+
+        notificationEmitterRegistry.send(
+                userId,
+                NotificationPushService.EVENT_UNREAD,
+                countUnread(userId)
+        );
+        return emitter;
+    }
 }
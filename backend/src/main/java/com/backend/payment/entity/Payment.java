@@ -13,7 +13,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(
+        name = "payments",
+        // 크리에이터별 기간 원장 기록 (creator_id 목록 + paid_at 범위)
+        indexes = @Index(name = "idx_payment_creator_paid", columnList = "creator_id, paid_at")
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
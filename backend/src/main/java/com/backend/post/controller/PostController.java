@@ -1,6 +1,7 @@
 package com.backend.post.controller;
 
 import com.backend.global.util.CustomUserDetails;
+import com.backend.post.dto.PostFeedResponseDto;
 import com.backend.post.dto.PostRequestDto;
 import com.backend.post.dto.PostResponseDto;
 import com.backend.post.service.PostService;
@@ -90,6 +91,21 @@ public class PostController {
         return ResponseEntity.ok(postService.getPostList(currentUserId, pageable));
     }
 
+    /**
+     * 내가 구독한 크리에이터들의 글 피드 조회 (커서 기반 무한 스크롤)
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<PostFeedResponseDto> getPostFeed(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+
+        Long currentUserId = userDetails.getUserId();
+
+        return ResponseEntity.ok(postService.getPostFeed(currentUserId, cursor, size));
+    }
+
     /**
      * 구독한 크리에이터 게시글 검색 목록 조회
      */
@@ -0,0 +1,47 @@
+package com.backend.post.dto;
+
+import com.backend.global.exception.common.BusinessException;
+import com.backend.global.exception.domain.PostErrorCode;
+import com.backend.post.entity.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 피드 커서 (createdAt, id)
+ * <br/>
+ * 클라이언트에는 불투명한 문자열로만 전달 (Base64 URL-safe)
+ */
+public record PostCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final String DELIMITER = "_";
+
+    public static PostCursor from(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.valueOf(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(PostErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.post.dto;
+
+import java.util.List;
+
+public record PostFeedResponseDto(
+        List<PostResponseDto> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
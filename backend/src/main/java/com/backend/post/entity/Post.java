@@ -14,7 +14,14 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 피드 커서 페이지네이션 (createdAt, id) 정렬용
+                @Index(name = "idx_post_user_created", columnList = "user_id, created_at, id"),
+                @Index(name = "idx_post_created", columnList = "created_at, id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post {
     @Id
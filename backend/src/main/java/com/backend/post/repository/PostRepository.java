@@ -4,25 +4,31 @@ import com.backend.post.entity.Post;
 import com.backend.post.entity.PostReportStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 1. 전체 조회
+    @EntityGraph(attributePaths = "user")
     Page<Post> findAll(Pageable pageable);
 
     // 2. 내 게시글 조회
+    @EntityGraph(attributePaths = "user")
     Page<Post> findAllByUserId(Long userId, Pageable pageable);
 
     // 3. 내가 구독한 크리에이터들의 글 목록 조회 (SQL의 IN 절 사용)
     // select * from posts where user_id in (1, 2, 5, ...)
+    @EntityGraph(attributePaths = "user")
     Page<Post> findAllByUserIdIn(List<Long> userIds, Pageable pageable);
 
     // 4. 구독한 크리에이터들의 게시글 검색
+    @EntityGraph(attributePaths = "user")
     @Query("""
             SELECT p FROM Post p
             WHERE p.user.id
@@ -37,6 +43,7 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     );
 
     // 5. 전체 게시글 검색 (어드민용)
+    @EntityGraph(attributePaths = "user")
     @Query("""
             SELECT p FROM Post p
             WHERE p.title
@@ -48,4 +55,105 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     );
 
     Page<Post> findByStatus(PostReportStatus status, Pageable pageable);
+
+    // 전문 검색 (ngram FULLTEXT 인덱스, 제목 + 본문, 관련도순) - 게시글 id 만 조회
+    // phrase 는 큰따옴표로 감싼 검색어: 검색어 전체가 연속으로 포함된 글만 찾음 (bigram 중 하나만 겹쳐도 찾는 NATURAL LANGUAGE MODE 와 다름)
+    @Query(value = """
+            SELECT p.id FROM posts p
+            WHERE p.user_id IN (:userIds)
+            AND MATCH(p.title, p.content) AGAINST (:phrase IN BOOLEAN MODE)
+            ORDER BY MATCH(p.title, p.content) AGAINST (:phrase IN BOOLEAN MODE) DESC,
+                     p.created_at DESC, p.id DESC
+            """,
+            countQuery = """
+            SELECT count(*) FROM posts p
+            WHERE p.user_id IN (:userIds)
+            AND MATCH(p.title, p.content) AGAINST (:phrase IN BOOLEAN MODE)
+            """,
+            nativeQuery = true)
+    Page<Long> searchIdsByUserIdIn(
+            @Param("userIds") List<Long> userIds,
+            @Param("phrase") String phrase,
+            Pageable pageable
+    );
+
+    // 전문 검색 (어드민용)
+    @Query(value = """
+            SELECT p.id FROM posts p
+            WHERE MATCH(p.title, p.content) AGAINST (:phrase IN BOOLEAN MODE)
+            ORDER BY MATCH(p.title, p.content) AGAINST (:phrase IN BOOLEAN MODE) DESC,
+                     p.created_at DESC, p.id DESC
+            """,
+            countQuery = """
+            SELECT count(*) FROM posts p
+            WHERE MATCH(p.title, p.content) AGAINST (:phrase IN BOOLEAN MODE)
+            """,
+            nativeQuery = true)
+    Page<Long> searchIds(
+            @Param("phrase") String phrase,
+            Pageable pageable
+    );
+
+    // 6. 피드 커서 조회 (count 쿼리 없이 size + 1 건만 조회)
+    @EntityGraph(attributePaths = "user")
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.user.id IN :userIds
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findFeedFirst(
+            @Param("userIds") List<Long> userIds,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = "user")
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.user.id IN :userIds
+            AND (p.createdAt < :createdAt
+                OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findFeedAfter(
+            @Param("userIds") List<Long> userIds,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 타임라인 구성용 (게시글 id 만 조회)
+    @Query("""
+            SELECT p.id FROM Post p
+            WHERE p.user.id IN :userIds
+            ORDER BY p.id DESC
+            """)
+    List<Long> findIdsByUserIdIn(
+            @Param("userIds") List<Long> userIds,
+            Pageable pageable
+    );
+
+    // 타임라인 게시글 조회 (작성자 포함)
+    @EntityGraph(attributePaths = "user")
+    List<Post> findAllByIdIn(List<Long> ids);
+
+    // 7. 전체 피드 커서 조회 (어드민용)
+    @EntityGraph(attributePaths = "user")
+    @Query("""
+            SELECT p FROM Post p
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findAllFeedFirst(Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("""
+            SELECT p FROM Post p
+            WHERE p.createdAt < :createdAt
+            OR (p.createdAt = :createdAt AND p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Post> findAllFeedAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,225 @@
+package com.backend.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 구독 피드 타임라인 (Redis Sorted Set)
+ * <br/>
+ * score = member = 게시글 id (IDENTITY 라 작성 순서와 같음).
+ * 비어 있는 타임라인도 존재를 표시하기 위해 score 0 의 마커를 넣어둠
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTimelineStore implements TimelineStore {
+
+    public static final int MAX_SIZE = 800;
+
+    private static final Duration TTL = Duration.ofDays(3);
+    private static final String MARKER = "0";
+
+    private static final byte[] PUSH_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[1])
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[2]) + 2))
+                return 1
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private String key(Long userId) {
+        return "timeline:user:" + userId;
+    }
+
+    private String pullKey(Long userId) {
+        return "timeline:pull:" + userId;
+    }
+
+    private String pullCreatorsKey() {
+        return "timeline:pull-creators";
+    }
+
+    @Override
+    public boolean exists(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(userId)));
+    }
+
+    @Override
+    public void rebuild(Long userId, List<Long> postIds, Set<Long> pullCreatorIds) {
+
+        redisTemplate.delete(List.of(key(userId), pullKey(userId)));
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        tuples.add(ZSetOperations.TypedTuple.of(MARKER, 0d));
+        postIds.stream()
+                .limit(MAX_SIZE)
+                .forEach(id -> tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(id), id.doubleValue())));
+
+        redisTemplate.opsForZSet().add(key(userId), tuples);
+        redisTemplate.expire(key(userId), TTL);
+
+        if (!pullCreatorIds.isEmpty()) {
+            redisTemplate.opsForSet().add(
+                    pullKey(userId),
+                    pullCreatorIds.stream().map(String::valueOf).toArray(String[]::new)
+            );
+            redisTemplate.expire(pullKey(userId), TTL);
+        }
+    }
+
+    @Override
+    public List<Long> range(Long userId, Long beforePostId, int limit) {
+
+        double max = beforePostId == null ? Double.POSITIVE_INFINITY : beforePostId - 1;
+
+        Set<String> ids = redisTemplate.opsForZSet()
+                .reverseRangeByScore(key(userId), 1, max, 0, limit);
+
+        // 읽히는 타임라인은 만료 연장
+        redisTemplate.expire(key(userId), TTL);
+        redisTemplate.expire(pullKey(userId), TTL);
+
+        if (ids == null) return List.of();
+
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    @Override
+    public long size(Long userId) {
+        Long size = redisTemplate.opsForZSet().zCard(key(userId));
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public void pushToAll(Collection<Long> userIds, Long postId) {
+
+        if (userIds.isEmpty()) return;
+
+        byte[] member = bytes(postId);
+        byte[] maxSize = bytes(MAX_SIZE);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.scriptingCommands()
+                        .eval(PUSH_SCRIPT, ReturnType.INTEGER, 1, bytes(key(userId)), member, maxSize);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void addAll(Long userId, List<Long> postIds) {
+
+        if (postIds.isEmpty() || !exists(userId)) return;
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = postIds.stream()
+                .map(id -> ZSetOperations.TypedTuple.of(String.valueOf(id), id.doubleValue()))
+                .collect(Collectors.toSet());
+
+        redisTemplate.opsForZSet().add(key(userId), tuples);
+        redisTemplate.opsForZSet().removeRange(key(userId), 0, -(MAX_SIZE + 2));
+    }
+
+    @Override
+    public void removeFromAll(Collection<Long> userIds, Long postId) {
+
+        if (userIds.isEmpty()) return;
+
+        byte[] member = bytes(postId);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                connection.zSetCommands().zRem(bytes(key(userId)), member);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void removeAll(Long userId, List<Long> postIds) {
+
+        if (postIds.isEmpty()) return;
+
+        redisTemplate.opsForZSet().remove(
+                key(userId),
+                postIds.stream().map(String::valueOf).toArray()
+        );
+    }
+
+    @Override
+    public void invalidate(Collection<Long> userIds) {
+
+        if (userIds.isEmpty()) return;
+
+        redisTemplate.delete(userIds.stream().map(this::key).toList());
+        redisTemplate.delete(userIds.stream().map(this::pullKey).toList());
+    }
+
+    @Override
+    public Set<Long> pullCreatorIds(Long userId) {
+
+        Set<String> ids = redisTemplate.opsForSet().members(pullKey(userId));
+        if (ids == null) return Set.of();
+
+        return ids.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @Override
+    public void addPullCreator(Long userId, Long creatorId) {
+        redisTemplate.opsForSet().add(pullKey(userId), String.valueOf(creatorId));
+        redisTemplate.expire(pullKey(userId), TTL);
+    }
+
+    @Override
+    public void removePullCreator(Long userId, Long creatorId) {
+        redisTemplate.opsForSet().remove(pullKey(userId), String.valueOf(creatorId));
+    }
+
+    @Override
+    public boolean isPullCreator(Long creatorId) {
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForSet().isMember(pullCreatorsKey(), String.valueOf(creatorId))
+        );
+    }
+
+    @Override
+    public Set<Long> filterPullCreators(List<Long> creatorIds) {
+
+        if (creatorIds.isEmpty()) return Set.of();
+
+        Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(
+                pullCreatorsKey(),
+                creatorIds.stream().map(String::valueOf).toArray()
+        );
+        if (members == null) return Set.of();
+
+        return members.entrySet().stream()
+                .filter(e -> Boolean.TRUE.equals(e.getValue()))
+                .map(e -> Long.valueOf(String.valueOf(e.getKey())))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void markPullCreator(Long creatorId) {
+        redisTemplate.opsForSet().add(pullCreatorsKey(), String.valueOf(creatorId));
+    }
+
+    private byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package com.backend.post.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface TimelineStore {
+
+    // 타임라인 존재 여부 (없으면 조회 시 재구성)
+    boolean exists(Long userId);
+
+    // 타임라인 재구성 (push 대상 게시글 id + pull 대상 크리에이터 id)
+    void rebuild(Long userId, List<Long> postIds, Set<Long> pullCreatorIds);
+
+    // beforePostId 보다 작은 게시글 id 를 최신순으로 조회 (null 이면 처음부터)
+    List<Long> range(Long userId, Long beforePostId, int limit);
+
+    long size(Long userId);
+
+    // 존재하는 타임라인에만 추가 (없는 타임라인은 조회 시 재구성되므로 건너뜀)
+    void pushToAll(Collection<Long> userIds, Long postId);
+
+    void addAll(Long userId, List<Long> postIds);
+
+    void removeFromAll(Collection<Long> userIds, Long postId);
+
+    void removeAll(Long userId, List<Long> postIds);
+
+    void invalidate(Collection<Long> userIds);
+
+    // 조회 시점에 직접 가져오는(pull) 크리에이터
+    Set<Long> pullCreatorIds(Long userId);
+
+    void addPullCreator(Long userId, Long creatorId);
+
+    void removePullCreator(Long userId, Long creatorId);
+
+    // 구독자가 많아 fan-out 하지 않는 크리에이터 (전역)
+    boolean isPullCreator(Long creatorId);
+
+    Set<Long> filterPullCreators(List<Long> creatorIds);
+
+    void markPullCreator(Long creatorId);
+}
@@ -1,5 +1,6 @@
 package com.backend.post.service;
 
+import com.backend.post.dto.PostFeedResponseDto;
 import com.backend.post.dto.PostRequestDto;
 import com.backend.post.dto.PostResponseDto;
 import org.springframework.data.domain.Page;
@@ -16,6 +17,9 @@ public interface PostService {
     // 게시글 전체 조회 (목록)
     Page<PostResponseDto> getPostList(Long currentUserId, Pageable pageable);
 
+    // 게시글 피드 조회 (커서 기반, count 쿼리 없음)
+    PostFeedResponseDto getPostFeed(Long currentUserId, String cursor, int size);
+
     // 구독한 크리에이터들의 게시글 검색
     Page<PostResponseDto> searchSubscribedPosts(Long currentUserId, String keyword, Pageable pageable);
 
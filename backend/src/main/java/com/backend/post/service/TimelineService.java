@@ -0,0 +1,21 @@
+package com.backend.post.service;
+
+import com.backend.post.dto.PostCursor;
+import com.backend.post.entity.Post;
+
+import java.util.List;
+
+public interface TimelineService {
+
+    // 구독 피드 조회 (after 이후 최대 limit 건, 최신순)
+    List<Post> readFeed(Long userId, PostCursor after, int limit);
+
+    // 게시글/구독 변경 반영 (호출한 트랜잭션이 커밋된 뒤 실행, 롤백되면 반영하지 않음)
+    void onPostCreated(Post post);
+
+    void onPostDeleted(Post post);
+
+    void onSubscribed(Long userId, Long creatorId);
+
+    void onUnsubscribed(Long userId, Long creatorId);
+}
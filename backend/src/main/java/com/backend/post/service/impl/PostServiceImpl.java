@@ -5,23 +5,34 @@ import com.backend.global.exception.domain.PostErrorCode;
 import com.backend.global.validator.RoleValidator;
 import com.backend.like.entity.LikeTargetType;
 import com.backend.like.service.LikeService;
+import com.backend.post.dto.PostCursor;
+import com.backend.post.dto.PostFeedResponseDto;
 import com.backend.post.dto.PostRequestDto;
 import com.backend.post.dto.PostResponseDto;
 import com.backend.post.entity.Post;
 import com.backend.post.repository.PostRepository;
 import com.backend.global.validator.PostAccessValidator;
 import com.backend.post.service.PostService;
+import com.backend.post.service.TimelineService;
 import com.backend.role.entity.RoleEnum;
 import com.backend.subscribe.repository.SubscribeRepository;
 import com.backend.user.entity.User;
 import com.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +44,10 @@ public class PostServiceImpl implements PostService {
     private final LikeService likeService;
     private final PostAccessValidator postAccessValidator;
     private final RoleValidator roleValidator;
+    private final TimelineService timelineService;
+
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int MIN_FULLTEXT_KEYWORD_LENGTH = 2;
 
     /**
      * 게시글 생성
@@ -52,6 +67,8 @@ public class PostServiceImpl implements PostService {
 
         postRepository.save(post);
 
+        timelineService.onPostCreated(post);
+
         return PostResponseDto.from(post);
     }
 
@@ -92,6 +109,8 @@ public class PostServiceImpl implements PostService {
             throw new BusinessException(PostErrorCode.POST_DELETE_FORBIDDEN);
         }
 
+        timelineService.onPostDeleted(post);
+
         postRepository.delete(post);
     }
 
@@ -106,9 +125,7 @@ public class PostServiceImpl implements PostService {
 
         // 2. 어드민인 경우 모든 포스트 조회
         if (user.hasRole(RoleEnum.ROLE_ADMIN)) {
-            return postRepository
-                    .findAll(pageable)
-                    .map(post -> toDto(post, currentUserId));
+            return toDtoPage(postRepository.findAll(pageable), currentUserId);
         }
 
         // 3. 일반 사용자는 내가 구독 중이고 만료되지 않은 크리에이터 ID 목록 가져오기
@@ -122,9 +139,48 @@ public class PostServiceImpl implements PostService {
 
         // 4. 구독한 사람들의 글만 조회
         // like로 인해서 바꿈
-        return postRepository
-                .findAllByUserIdIn(subscribedCreatorIds, pageable)
-                .map(post -> toDto(post, currentUserId));
+        return toDtoPage(
+                postRepository.findAllByUserIdIn(subscribedCreatorIds, pageable),
+                currentUserId
+        );
+    }
+
+    /**
+     * 내가 구독한 크리에이터들의 게시글 피드 조회 (커서 기반)
+     * <br/>
+     * (createdAt, id) 기준으로 다음 페이지를 찾으므로 깊은 페이지도 첫 페이지와 비용이 같음
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PostFeedResponseDto getPostFeed(Long currentUserId, String cursor, int size) {
+
+        User user = userRepository.findByIdOrThrow(currentUserId);
+
+        int limit = Math.clamp(size, 1, MAX_FEED_SIZE);
+        PostCursor after = (cursor == null || cursor.isBlank()) ? null : PostCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        Pageable fetch = PageRequest.of(0, limit + 1);
+
+        List<Post> posts;
+
+        if (user.hasRole(RoleEnum.ROLE_ADMIN)) {
+            posts = after == null
+                    ? postRepository.findAllFeedFirst(fetch)
+                    : postRepository.findAllFeedAfter(after.createdAt(), after.id(), fetch);
+        } else {
+            // 일반 사용자는 미리 구성된 타임라인에서 조회
+            posts = timelineService.readFeed(currentUserId, after, limit + 1);
+        }
+
+        boolean hasNext = posts.size() > limit;
+        List<Post> content = hasNext ? posts.subList(0, limit) : posts;
+
+        String nextCursor = hasNext
+                ? PostCursor.from(content.get(content.size() - 1)).encode()
+                : null;
+
+        return new PostFeedResponseDto(toDtoList(content, currentUserId), nextCursor, hasNext);
     }
 
     /**
@@ -135,12 +191,17 @@ public class PostServiceImpl implements PostService {
     public Page<PostResponseDto> searchSubscribedPosts(Long currentUserId, String keyword, Pageable pageable) {
 
         User user = userRepository.findByIdOrThrow(currentUserId);
+        String trimmed = keyword == null ? "" : keyword.strip();
+
+        // 전문 검색은 관련도순 정렬이므로 요청 정렬은 무시
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
 
         // 어드민인 경우 전체 포스트에서 검색
         if (user.hasRole(RoleEnum.ROLE_ADMIN)) {
-            return postRepository
-                    .findAllByKeyword(keyword, pageable)
-                    .map(post -> toDto(post, currentUserId));
+            if (!isFullTextSearchable(trimmed)) {
+                return toDtoPage(postRepository.findAllByKeyword(trimmed, pageable), currentUserId);
+            }
+            return toDtoPageByIds(postRepository.searchIds(toPhrase(trimmed), unsorted), currentUserId);
         }
 
         // 일반 사용자는 내가 구독중인 크리에이터 ID 목록 가져오기
@@ -152,14 +213,23 @@ public class PostServiceImpl implements PostService {
             return Page.empty(pageable);
         }
 
+        // ngram 토큰보다 짧은 검색어는 인덱스로 찾을 수 없으므로 기존 제목 검색 사용
+        if (!isFullTextSearchable(trimmed)) {
+            return toDtoPage(
+                    postRepository.findAllByUserIdInAndKeyword(subscribedCreatorIds, trimmed, pageable),
+                    currentUserId
+            );
+        }
+
         // 구독한 크리에이터들의 게시글 검색
-        return postRepository
-                .findAllByUserIdInAndKeyword(
+        return toDtoPageByIds(
+                postRepository.searchIdsByUserIdIn(
                         subscribedCreatorIds,
-                        keyword,
-                        pageable
-                )
-                .map(post -> toDto(post, currentUserId));
+                        toPhrase(trimmed),
+                        unsorted
+                ),
+                currentUserId
+        );
     }
 
     /**
@@ -170,9 +240,7 @@ public class PostServiceImpl implements PostService {
     public Page<PostResponseDto> getCreatorPostList(Long creatorId, Long currentUserId, Pageable pageable) {
 
         // like로 인한 변경
-        return postRepository
-                .findAllByUserId(creatorId, pageable)
-                .map(post -> toDto(post, currentUserId));
+        return toDtoPage(postRepository.findAllByUserId(creatorId, pageable), currentUserId);
     }
 
     /**
@@ -199,10 +267,8 @@ public class PostServiceImpl implements PostService {
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getMyPostList(Long userId, Pageable pageable) {
 
-        return postRepository
-                .findAllByUserId(userId, pageable)
-                // like로 인한 변경
-                .map(post -> toDto(post, userId));
+        // like로 인한 변경
+        return toDtoPage(postRepository.findAllByUserId(userId, pageable), userId);
     }
 
     // =================================================================
@@ -230,6 +296,70 @@ public class PostServiceImpl implements PostService {
         long likeCount = likeService.count(LikeTargetType.POST, post.getId());
         boolean likedByMe = likeService.likedByMe(currentUserId, LikeTargetType.POST, post.getId());
 
+        return toDto(post, likeCount, likedByMe);
+    }
+
+    // 목록 조회용: 페이지 단위로 좋아요 수/여부를 한 번에 조회 (게시글마다 조회하지 않음)
+    private Page<PostResponseDto> toDtoPage(Page<Post> posts, Long currentUserId) {
+
+        return new PageImpl<>(
+                toDtoList(posts.getContent(), currentUserId),
+                posts.getPageable(),
+                posts.getTotalElements()
+        );
+    }
+
+    // 공백으로 나눈 모든 단어가 ngram 토큰(2자) 이상이어야 인덱스로 찾을 수 있음
+    private boolean isFullTextSearchable(String keyword) {
+        String cleaned = keyword.replace("\"", "").strip();
+
+        return !cleaned.isEmpty() && Arrays.stream(cleaned.split("\\s+"))
+                .allMatch(word -> word.length() >= MIN_FULLTEXT_KEYWORD_LENGTH);
+    }
+
+    // BOOLEAN MODE 구문 검색어 (검색어 안의 큰따옴표는 제거)
+    private String toPhrase(String keyword) {
+        return "\"" + keyword.replace("\"", "").strip() + "\"";
+    }
+
+    // 검색 결과 id 순서(관련도순)를 유지하며 게시글 조회
+    private Page<PostResponseDto> toDtoPageByIds(Page<Long> postIds, Long currentUserId) {
+
+        Map<Long, Post> byId = postRepository.findAllByIdIn(postIds.getContent()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<Post> posts = postIds.getContent().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(
+                toDtoList(posts, currentUserId),
+                postIds.getPageable(),
+                postIds.getTotalElements()
+        );
+    }
+
+    private List<PostResponseDto> toDtoList(List<Post> posts, Long currentUserId) {
+
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+
+        Map<Long, Long> likeCountMap = likeService.countMap(LikeTargetType.POST, postIds);
+        Set<Long> likedSet = likeService.likedSet(currentUserId, LikeTargetType.POST, postIds);
+
+        return posts.stream()
+                .map(post -> toDto(
+                        post,
+                        likeCountMap.getOrDefault(post.getId(), 0L),
+                        currentUserId != null && likedSet.contains(post.getId())
+                ))
+                .toList();
+    }
+
+    private PostResponseDto toDto(Post post, long likeCount, boolean likedByMe) {
+
         return new PostResponseDto(
                 post.getId(),
                 post.getUser().getId(),
@@ -0,0 +1,252 @@
+package com.backend.post.service.impl;
+
+import com.backend.post.dto.PostCursor;
+import com.backend.post.entity.Post;
+import com.backend.post.repository.PostRepository;
+import com.backend.post.repository.RedisTimelineStore;
+import com.backend.post.repository.TimelineStore;
+import com.backend.post.service.TimelineService;
+import com.backend.subscribe.repository.SubscribeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구독 피드 타임라인 (push/pull 혼합)
+ * <br/>
+ * - 일반 크리에이터: 게시글 작성 시 구독자 타임라인에 push
+ * - 구독자가 많은 크리에이터: push 하지 않고 조회 시점에 DB 에서 pull 해서 병합
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineServiceImpl implements TimelineService {
+
+    // 이 이상 구독자를 가진 크리에이터는 fan-out 하지 않음
+    private static final int FAN_OUT_LIMIT = 5_000;
+
+    private final TimelineStore timelineStore;
+    private final PostRepository postRepository;
+    private final SubscribeRepository subscribeRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Post> readFeed(Long userId, PostCursor after, int limit) {
+
+        if (!timelineStore.exists(userId)) {
+            rebuild(userId);
+        }
+
+        // 삭제 등으로 게시글이 없는 id 는 빠지므로 limit 건이 채워질 때까지 이어서 읽음
+        // (적게 반환하면 다음 페이지가 있어도 피드가 끝난 것으로 판단됨)
+        List<Post> posts = new ArrayList<>();
+        Long beforeId = after == null ? null : after.id();
+        boolean exhausted = false;
+
+        while (posts.size() < limit) {
+            int requested = limit - posts.size();
+            List<Long> postIds = timelineStore.range(userId, beforeId, requested);
+
+            posts.addAll(hydrate(userId, postIds));
+
+            if (postIds.size() < requested) {
+                exhausted = true;
+                break;
+            }
+            beforeId = postIds.get(postIds.size() - 1);
+        }
+
+        // 타임라인 보관 범위를 넘어선 깊은 페이지는 DB 에서 직접 조회
+        if (exhausted && timelineStore.size(userId) >= RedisTimelineStore.MAX_SIZE) {
+            return pull(subscribeRepository.findCreatorIdsByUserId(userId), after, limit);
+        }
+
+        Set<Long> pullCreatorIds = timelineStore.pullCreatorIds(userId);
+        if (!pullCreatorIds.isEmpty()) {
+            posts.addAll(pull(List.copyOf(pullCreatorIds), after, limit));
+        }
+
+        return posts.stream()
+                .sorted(Comparator.comparing(Post::getCreatedAt)
+                        .thenComparing(Post::getId)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void onPostCreated(Post post) {
+
+        Long creatorId = post.getUser().getId();
+        Long postId = post.getId();
+
+        afterCommit(() -> pushPost(creatorId, postId));
+    }
+
+    @Override
+    public void onPostDeleted(Post post) {
+
+        Long creatorId = post.getUser().getId();
+        Long postId = post.getId();
+
+        afterCommit(() -> removePost(creatorId, postId));
+    }
+
+    @Override
+    public void onSubscribed(Long userId, Long creatorId) {
+        afterCommit(() -> addCreator(userId, creatorId));
+    }
+
+    @Override
+    public void onUnsubscribed(Long userId, Long creatorId) {
+        afterCommit(() -> removeCreator(userId, creatorId));
+    }
+
+    // =================================================================
+    // 내부 로직
+    // =================================================================
+
+    // 타임라인 반영은 커밋 후에만 실행 (롤백된 게시글/구독이 타임라인에 남거나 살아 있는 게시글이 빠지지 않도록)
+    // 반영 실패는 게시글/구독 저장에 영향을 주지 않음 (타임라인은 invalidate 후 재구성으로 복구 가능)
+    private void afterCommit(Runnable task) {
+        Runnable safe = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("[Timeline] fan-out failed", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+
+    private void pushPost(Long creatorId, Long postId) {
+
+        if (timelineStore.isPullCreator(creatorId)) {
+            return;
+        }
+
+        List<Long> subscriberIds = subscribeRepository.findUserIdsByCreatorId(creatorId);
+
+        // 구독자가 많아지면 pull 대상으로 전환하고 기존 타임라인은 다음 조회 시 재구성
+        if (subscriberIds.size() >= FAN_OUT_LIMIT) {
+            timelineStore.markPullCreator(creatorId);
+            timelineStore.invalidate(subscriberIds);
+            log.info("[Timeline] switched to pull. creatorId={}, subscribers={}", creatorId, subscriberIds.size());
+            return;
+        }
+
+        timelineStore.pushToAll(subscriberIds, postId);
+    }
+
+    private void removePost(Long creatorId, Long postId) {
+
+        if (timelineStore.isPullCreator(creatorId)) {
+            return;
+        }
+
+        timelineStore.removeFromAll(subscribeRepository.findUserIdsByCreatorId(creatorId), postId);
+    }
+
+    private void addCreator(Long userId, Long creatorId) {
+
+        // 타임라인이 없으면 다음 조회 시 재구성되므로 할 일 없음
+        if (!timelineStore.exists(userId)) {
+            return;
+        }
+
+        if (timelineStore.isPullCreator(creatorId)) {
+            timelineStore.addPullCreator(userId, creatorId);
+            return;
+        }
+
+        timelineStore.addAll(userId, recentPostIds(List.of(creatorId)));
+    }
+
+    private void removeCreator(Long userId, Long creatorId) {
+
+        if (!timelineStore.exists(userId)) {
+            return;
+        }
+
+        if (timelineStore.isPullCreator(creatorId)) {
+            timelineStore.removePullCreator(userId, creatorId);
+            return;
+        }
+
+        timelineStore.removeAll(userId, recentPostIds(List.of(creatorId)));
+    }
+
+    private void rebuild(Long userId) {
+
+        List<Long> creatorIds = subscribeRepository.findCreatorIdsByUserId(userId);
+
+        Set<Long> pullCreatorIds = timelineStore.filterPullCreators(creatorIds);
+        List<Long> pushCreatorIds = creatorIds.stream()
+                .filter(id -> !pullCreatorIds.contains(id))
+                .toList();
+
+        timelineStore.rebuild(userId, recentPostIds(pushCreatorIds), pullCreatorIds);
+    }
+
+    private List<Long> recentPostIds(List<Long> creatorIds) {
+
+        if (creatorIds.isEmpty()) return List.of();
+
+        return postRepository.findIdsByUserIdIn(creatorIds, PageRequest.of(0, RedisTimelineStore.MAX_SIZE));
+    }
+
+    // 타임라인 id 순서대로 게시글 조회, 게시글이 없는 id 는 제외하고 타임라인에서도 제거
+    private List<Post> hydrate(Long userId, List<Long> postIds) {
+
+        if (postIds.isEmpty()) return List.of();
+
+        Map<Long, Post> byId = postRepository.findAllByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<Long> deadIds = postIds.stream()
+                .filter(id -> !byId.containsKey(id))
+                .toList();
+
+        if (!deadIds.isEmpty()) {
+            timelineStore.removeAll(userId, deadIds);
+        }
+
+        return postIds.stream()
+                .map(byId::get)
+                .filter(p -> p != null)
+                .toList();
+    }
+
+    private List<Post> pull(List<Long> creatorIds, PostCursor after, int limit) {
+
+        if (creatorIds.isEmpty()) return List.of();
+
+        PageRequest fetch = PageRequest.of(0, limit);
+
+        return after == null
+                ? postRepository.findFeedFirst(creatorIds, fetch)
+                : postRepository.findFeedAfter(creatorIds, after.createdAt(), after.id(), fetch);
+    }
+}
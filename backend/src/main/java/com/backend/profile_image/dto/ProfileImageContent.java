@@ -0,0 +1,12 @@
+package com.backend.profile_image.dto;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * 프로필 이미지 다운로드 응답 (메타데이터 + 스트리밍할 내용)
+ */
+public record ProfileImageContent(
+        ProfileImageMeta meta,
+        Resource resource
+) {
+}
@@ -0,0 +1,44 @@
+package com.backend.profile_image.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+// 업로드 허용 이미지 형식 (확장자/Content-Type 대신 파일 앞부분의 시그니처로 판별)
+public enum ProfileImageFormat {
+
+    PNG("image/png", new int[]{0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}),
+    JPEG("image/jpeg", new int[]{0xFF, 0xD8, 0xFF}),
+    GIF("image/gif", new int[]{'G', 'I', 'F', '8'}),
+    // RIFF....WEBP (5~8번째 바이트는 파일 크기)
+    WEBP("image/webp", new int[]{'R', 'I', 'F', 'F', -1, -1, -1, -1, 'W', 'E', 'B', 'P'});
+
+    // 가장 긴 시그니처 길이
+    public static final int HEADER_LENGTH = 12;
+
+    private final String contentType;
+    private final int[] signature;
+
+    ProfileImageFormat(String contentType, int[] signature) {
+        this.contentType = contentType;
+        this.signature = signature;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public static Optional<ProfileImageFormat> detect(byte[] header, int length) {
+        return Arrays.stream(values())
+                .filter(format -> format.matches(header, length))
+                .findFirst();
+    }
+
+    private boolean matches(byte[] header, int length) {
+        if (length < signature.length) return false;
+
+        for (int i = 0; i < signature.length; i++) {
+            if (signature[i] >= 0 && (header[i] & 0xFF) != signature[i]) return false;
+        }
+        return true;
+    }
+}
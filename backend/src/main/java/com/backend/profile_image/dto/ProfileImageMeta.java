@@ -0,0 +1,78 @@
+package com.backend.profile_image.dto;
+
+/**
+ * 프로필 이미지 메타데이터 (내용 컬럼 없이 조회)
+ * <br/>
+ * storageKey 는 내용 해시라 그대로 ETag/URL 버전으로 사용. 아직 이전되지 않은 이미지는 null
+ * <br/>
+ * 변형(smallKey, mediumKey)이 아직 없으면 원본으로 응답, 디코딩할 수 없는 이미지는 변형 키에 원본 키가 들어 있음
+ */
+public record ProfileImageMeta(
+        Long userId,
+        String contentType,
+        String originalName,
+        long size,
+        String storageKey,
+        String smallKey,
+        String mediumKey
+) {
+    private static final int VERSION_LENGTH = 16;
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    // 실제로 응답할 내용의 키 (변형이 없으면 원본)
+    public String keyFor(ProfileImageSize size) {
+        String variantKey = variantKey(size);
+        return variantKey != null ? variantKey : storageKey;
+    }
+
+    // 원본과 다른 변형 내용이 있는지
+    public boolean hasVariant(ProfileImageSize size) {
+        String variantKey = variantKey(size);
+        return variantKey != null && !variantKey.equals(storageKey);
+    }
+
+    // 이 크기로 더 이상 바뀌지 않는 응답이 정해졌는지 (변형 생성 전이면 나중에 내용이 바뀜)
+    public boolean isSettled(ProfileImageSize size) {
+        return storageKey != null && (size == ProfileImageSize.ORIGINAL || variantKey(size) != null);
+    }
+
+    public String etag(ProfileImageSize size) {
+        String key = keyFor(size);
+        return key == null ? null : "\"" + key + "\"";
+    }
+
+    public String contentType(ProfileImageSize size) {
+        return hasVariant(size) ? VARIANT_CONTENT_TYPE : contentType;
+    }
+
+    public String fileName(ProfileImageSize size) {
+        return hasVariant(size) ? "profile-" + userId + "-" + size.name().toLowerCase() + ".jpg" : originalName;
+    }
+
+    public String version() {
+        return storageKey == null ? null : storageKey.substring(0, VERSION_LENGTH);
+    }
+
+    public boolean matchesVersion(String v) {
+        return v != null && v.equals(version());
+    }
+
+    // 내용이 바뀌면 URL 도 바뀌므로 브라우저가 오래 캐시해도 됨
+    public String url(ProfileImageSize size) {
+        String base = "/api/profile-images/users/" + userId;
+        String sizeParam = size == ProfileImageSize.ORIGINAL ? "" : "size=" + size.name().toLowerCase();
+
+        if (storageKey == null) {
+            return sizeParam.isEmpty() ? base : base + "?" + sizeParam;
+        }
+        return sizeParam.isEmpty() ? base + "?v=" + version() : base + "?v=" + version() + "&" + sizeParam;
+    }
+
+    private String variantKey(ProfileImageSize size) {
+        return switch (size) {
+            case ORIGINAL -> null;
+            case SMALL -> smallKey;
+            case MEDIUM -> mediumKey;
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.profile_image.dto;
+
+import com.backend.global.exception.common.BusinessException;
+import com.backend.global.exception.domain.UserErrorCode;
+
+// 프로필 이미지 크기 (정사각형 변형의 한 변 픽셀, ORIGINAL 은 업로드 원본)
+public enum ProfileImageSize {
+
+    ORIGINAL(0),
+    SMALL(128),
+    MEDIUM(512);
+
+    private final int pixels;
+
+    ProfileImageSize(int pixels) {
+        this.pixels = pixels;
+    }
+
+    public int pixels() {
+        return pixels;
+    }
+
+    public static ProfileImageSize from(String value) {
+        for (ProfileImageSize size : values()) {
+            if (size.name().equalsIgnoreCase(value)) {
+                return size;
+            }
+        }
+        throw new BusinessException(UserErrorCode.PROFILE_IMAGE_INVALID_SIZE);
+    }
+}
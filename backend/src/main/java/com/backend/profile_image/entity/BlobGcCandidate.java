@@ -0,0 +1,34 @@
+package com.backend.profile_image.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제 후보 BlobStore 키
+ * <br/>
+ * 교체/탈퇴/롤백 등으로 참조가 사라졌을 수 있는 키를 기록해 두고,
+ * 유예 시간이 지난 뒤 GC 가 참조를 다시 확인해 삭제 (같은 키를 다시 기록하면 marked_at 만 갱신)
+ */
+@Entity
+@Table(
+        name = "blob_gc_candidates",
+        indexes = @Index(name = "idx_blob_gc_marked_at", columnList = "marked_at")
+)
+@Getter
+@NoArgsConstructor
+public class BlobGcCandidate {
+
+    @Id
+    @Column(name = "storage_key", length = 64)
+    private String storageKey;
+
+    @Column(name = "marked_at", nullable = false)
+    private LocalDateTime markedAt;
+}
@@ -34,9 +34,21 @@ public class ProfileImage {
     @Column(name = "size", nullable = false)
     private long size;
 
+    // 내용 해시 (BlobStore 키)
+    @Column(name = "storage_key", length = 64)
+    private String storageKey;
+
+    // 정사각형 변형 JPEG 의 BlobStore 키 (생성 전이면 null, 디코딩할 수 없는 이미지는 원본 키)
+    @Column(name = "small_key", length = 64)
+    private String smallKey;
+
+    @Column(name = "medium_key", length = 64)
+    private String mediumKey;
+
+    // BlobStore 이전 전 데이터 (이전이 끝나면 null)
     @Lob
     @Basic(fetch = FetchType.LAZY)
-    @Column(name = "data", nullable = false, columnDefinition = "LONGBLOB")
+    @Column(name = "data", columnDefinition = "LONGBLOB")
     private byte[] data;
 
     private ProfileImage(
@@ -44,13 +56,13 @@ public class ProfileImage {
             String originalName,
             String contentType,
             long size,
-            byte[] data
+            String storageKey
     ) {
         this.user = user;
         this.originalName = originalName;
         this.contentType = contentType;
         this.size = size;
-        this.data = data;
+        this.storageKey = storageKey;
     }
 
     public static ProfileImage of(
@@ -58,14 +70,30 @@ public class ProfileImage {
             String originalName,
             String contentType,
             long size,
-            byte[] data
+            String storageKey
     ) {
         return new ProfileImage(
                 user,
                 originalName,
                 contentType,
                 size,
-                data
+                storageKey
         );
     }
-}
\ No newline at end of file
+
+    // 교체: 행을 지우지 않고 한 번의 UPDATE 로 바꿔 이미지가 없는 순간을 없앰 (변형은 새로 생성)
+    public void replace(
+            String originalName,
+            String contentType,
+            long size,
+            String storageKey
+    ) {
+        this.originalName = originalName;
+        this.contentType = contentType;
+        this.size = size;
+        this.storageKey = storageKey;
+        this.smallKey = null;
+        this.mediumKey = null;
+        this.data = null;
+    }
+}
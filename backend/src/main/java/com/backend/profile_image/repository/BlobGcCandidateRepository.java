@@ -0,0 +1,40 @@
+package com.backend.profile_image.repository;
+
+import com.backend.profile_image.entity.BlobGcCandidate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BlobGcCandidateRepository extends JpaRepository<BlobGcCandidate, String> {
+
+    // 이미 후보면 유예 시간을 다시 시작
+    @Modifying
+    @Query(value = """
+            INSERT INTO blob_gc_candidates (storage_key, marked_at)
+            VALUES (:storageKey, :now)
+            ON DUPLICATE KEY UPDATE marked_at = VALUES(marked_at)
+            """, nativeQuery = true)
+    int mark(@Param("storageKey") String storageKey, @Param("now") LocalDateTime now);
+
+    // 유예 시간이 지난 후보 (오래된 순)
+    @Query("""
+            select c.storageKey from BlobGcCandidate c
+            where c.markedAt < :cutoff
+            order by c.markedAt asc
+            """)
+    List<String> findDueKeys(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 확인 중에 다시 기록된 후보는 남김
+    @Modifying
+    @Query("""
+            delete from BlobGcCandidate c
+            where c.storageKey = :storageKey
+            and c.markedAt < :cutoff
+            """)
+    int deleteIfDue(@Param("storageKey") String storageKey, @Param("cutoff") LocalDateTime cutoff);
+}
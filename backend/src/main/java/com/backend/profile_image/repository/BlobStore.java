@@ -0,0 +1,41 @@
+package com.backend.profile_image.repository;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * 이미지 바이너리 저장소
+ * <br/>
+ * 내용의 SHA-256 해시를 키로 사용 (같은 내용은 한 번만 저장, 키가 바뀌지 않으면 내용도 바뀌지 않음)
+ * <br/>
+ * 같은 파일을 여러 행이 공유할 수 있으므로 바로 지우지 않고, 유예 시간이 지난 뒤 GC 에서 deleteIfIdleSince 로 삭제
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림을 끝까지 읽어 저장
+     *
+     * @return 내용 해시 키와 크기
+     */
+    StoredBlob put(InputStream in) throws IOException;
+
+    /**
+     * 저장된 내용을 읽을 Resource (힙에 올리지 않고 스트리밍), 없으면 null
+     */
+    Resource get(String key);
+
+    /**
+     * cutoff 이후 put(재사용 포함) 되지 않은 경우에만 삭제
+     * <br/>
+     * 참조 확인과 삭제 사이에 같은 내용이 다시 저장되는 경우를 막기 위해 put 시각과 원자적으로 비교
+     *
+     * @return 삭제했거나 이미 없으면 true, 최근에 사용돼 남겨 두면 false
+     */
+    boolean deleteIfIdleSince(String key, Instant cutoff);
+
+    record StoredBlob(String key, long size) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.backend.profile_image.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 파일시스템 BlobStore
+ * <br/>
+ * root/ab/cd/abcd... 형태로 저장. 임시 파일에 쓰면서 해시를 계산하고, 끝나면 최종 경로로 원자적 이동.
+ * 여러 인스턴스에서 쓰려면 root 를 공유 볼륨으로 지정해야 함
+ */
+@Slf4j
+@Component
+public class LocalFileBlobStore implements BlobStore {
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path tmpDir;
+
+    public LocalFileBlobStore(@Value("${storage.profile-image.root:./data/profile-images}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve("tmp");
+        try {
+            Files.createDirectories(tmpDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot create blob store directory: " + this.root, e);
+        }
+    }
+
+    @Override
+    public StoredBlob put(InputStream in) throws IOException {
+
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (DigestInputStream din = new DigestInputStream(in, digest)) {
+                size = Files.copy(din, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest());
+            Path target = path(key);
+
+            // 이미 있으면 사용 시각만 갱신 (GC 가 그 사이에 지웠으면 새로 저장)
+            if (!touch(target)) {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                    // 같은 내용이 동시에 저장된 경우
+                    touch(target);
+                }
+            }
+            return new StoredBlob(key, size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Resource get(String key) {
+        Path path = path(key);
+        return Files.isRegularFile(path) ? new FileSystemResource(path) : null;
+    }
+
+    /**
+     * 최종 경로에서 tmp 로 원자적으로 옮긴 뒤 사용 시각을 다시 확인
+     * <br/>
+     * - 옮기기 전에 put 이 사용 시각을 갱신했으면 되돌려 놓음
+     * - 옮긴 뒤의 put 은 파일이 없으므로 새로 저장
+     */
+    @Override
+    public boolean deleteIfIdleSince(String key, Instant cutoff) {
+        Path target = path(key);
+        Path tomb = tmpDir.resolve(key + ".gc");
+
+        try {
+            Files.move(target, tomb, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return true;
+        } catch (IOException e) {
+            log.warn("[BlobStore] delete failed. key={}", key, e);
+            return false;
+        }
+
+        try {
+            if (Files.getLastModifiedTime(tomb).toInstant().isAfter(cutoff)) {
+                restore(tomb, target);
+                return false;
+            }
+            Files.delete(tomb);
+            return true;
+        } catch (IOException e) {
+            log.warn("[BlobStore] delete failed. key={}", key, e);
+            restore(tomb, target);
+            return false;
+        }
+    }
+
+    private boolean touch(Path target) throws IOException {
+        try {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private void restore(Path tomb, Path target) {
+        try {
+            Files.move(tomb, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // 그 사이 put 이 같은 내용을 새로 저장함
+            deleteQuietly(tomb);
+        } catch (IOException e) {
+            log.error("[BlobStore] restore failed. tomb={}", tomb, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[BlobStore] delete failed. path={}", path, e);
+        }
+    }
+
+    private Path path(String key) {
+        if (key == null || !KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException("invalid blob key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.backend.profile_image.repository;
+
+import com.backend.profile_image.dto.ProfileImageMeta;
+import com.backend.profile_image.dto.ProfileImageSize;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 자주 조회되는 프로필 이미지 캐시
+ * <br/>
+ * - 메타데이터: 사용자별, 이미지가 없는 경우(empty)도 캐시. 교체/변형 생성/이전/탈퇴 시 evict
+ * - 내용: BlobStore 키(내용 해시)별 힙 ByteBuffer, 전체 바이트 합으로 제한(weight).
+ *   키가 같으면 내용도 같으므로 오래된 내용을 응답할 일이 없고, evict 는 메모리 반환용
+ * <br/>
+ * 원본처럼 큰 이미지는 캐시하지 않고 BlobStore 에서 그대로 스트리밍 (isCacheable 로 캐시 조회 전에 거름)
+ * <br/>
+ * direct 버퍼는 GC 가 돌아야 반환되어 evict 뒤에도 MaxDirectMemorySize 를 채울 수 있으므로 힙 버퍼 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageCache {
+
+    private static final long CONTENT_BUDGET_BYTES = 64L * 1024 * 1024;
+    private static final int MAX_ENTRY_BYTES = 512 * 1024;
+
+    private final ProfileImageRepository profileImageRepository;
+    private final BlobStore blobStore;
+
+    // 다른 인스턴스에서 교체된 이미지도 TTL 안에 반영됨
+    private final Cache<Long, Optional<ProfileImageMeta>> metaCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .recordStats()
+            .build();
+
+    private final Cache<String, ByteBuffer> contentCache = Caffeine.newBuilder()
+            .maximumWeight(CONTENT_BUDGET_BYTES)
+            .<String, ByteBuffer>weigher((key, buffer) -> buffer.capacity())
+            .recordStats()
+            .build();
+
+    public Optional<ProfileImageMeta> getMeta(Long userId) {
+        return metaCache.get(userId, profileImageRepository::findMetaByUserId);
+    }
+
+    /**
+     * 메타데이터만으로 내용 캐시 대상인지 판단 (큰 원본이 캐시를 조회해 miss 로 집계되지 않도록)
+     * <br/>
+     * 변형은 목록용 작은 이미지, 원본은 크기가 기준 이하일 때만 대상
+     */
+    public boolean isCacheable(ProfileImageMeta meta, ProfileImageSize size) {
+        if (meta.storageKey() == null) return false;
+
+        return meta.hasVariant(size) || meta.size() <= MAX_ENTRY_BYTES;
+    }
+
+    /**
+     * 캐시된 내용 (없으면 BlobStore 에서 읽어 적재), 읽을 수 없으면 null
+     */
+    public Resource getContent(String key) {
+        ByteBuffer buffer = contentCache.get(key, this::load);
+        return buffer == null ? null : new CachedImageResource(key, buffer);
+    }
+
+    // 이미지 교체 / 변형 생성 / BlobStore 이전 / 탈퇴 시 호출
+    // 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 후에도 한 번 더 제거
+    public void evict(Long userId) {
+        evictNow(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    // BlobStore 에서 파일을 지울 때 호출
+    public void evictContent(String key) {
+        contentCache.invalidate(key);
+    }
+
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public void logStats() {
+        CacheStats meta = metaCache.stats();
+        CacheStats content = contentCache.stats();
+
+        log.info("[ProfileImageCache] meta hit={}, miss={}, hitRate={} / content hit={}, miss={}, hitRate={}, evictions={}, bytes={}",
+                meta.hitCount(),
+                meta.missCount(),
+                String.format("%.3f", meta.hitRate()),
+                content.hitCount(),
+                content.missCount(),
+                String.format("%.3f", content.hitRate()),
+                content.evictionCount(),
+                contentCache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L));
+    }
+
+    private void evictNow(Long userId) {
+        Optional<ProfileImageMeta> cached = metaCache.getIfPresent(userId);
+        metaCache.invalidate(userId);
+
+        // 더 이상 이 사용자 URL 로 조회되지 않는 내용은 예산에서 먼저 반환
+        if (cached != null) {
+            cached.ifPresent(meta -> {
+                for (ProfileImageSize size : ProfileImageSize.values()) {
+                    String key = meta.keyFor(size);
+                    if (key != null) contentCache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    // 변형 파일이 예상보다 큰 경우에 대비해 길이는 한 번 더 확인
+    private ByteBuffer load(String key) {
+        Resource resource = blobStore.get(key);
+        if (resource == null) return null;
+
+        try {
+            long length = resource.contentLength();
+            if (length > MAX_ENTRY_BYTES) return null;
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) length);
+            try (ReadableByteChannel channel = resource.readableChannel()) {
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // 끝까지 읽기
+                }
+            }
+            buffer.flip();
+            return buffer.asReadOnlyBuffer();
+        } catch (IOException e) {
+            log.warn("[ProfileImageCache] load failed. key={}", key, e);
+            return null;
+        }
+    }
+
+    // 요청마다 같은 버퍼를 공유하고 읽기 위치만 따로 가짐
+    private static final class CachedImageResource extends AbstractResource {
+
+        private final String key;
+        private final ByteBuffer buffer;
+
+        private CachedImageResource(String key, ByteBuffer buffer) {
+            this.key = key;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public String getDescription() {
+            return "cached profile image [" + key + "]";
+        }
+
+        @Override
+        public long contentLength() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            ByteBuffer view = buffer.duplicate();
+
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return view.hasRemaining() ? view.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (!view.hasRemaining()) return -1;
+
+                    int n = Math.min(len, view.remaining());
+                    view.get(b, off, n);
+                    return n;
+                }
+
+                @Override
+                public int available() {
+                    return view.remaining();
+                }
+            };
+        }
+    }
+}
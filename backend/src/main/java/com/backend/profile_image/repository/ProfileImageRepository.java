@@ -1,11 +1,125 @@
 package com.backend.profile_image.repository;
 
+import com.backend.profile_image.dto.ProfileImageMeta;
 import com.backend.profile_image.entity.ProfileImage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProfileImageRepository extends JpaRepository<ProfileImage, Long> {
 
-    Optional<ProfileImage> findByUser_Id(Long userId);
+    // 잠금 읽기라 REPEATABLE READ 스냅샷이 아닌 최신 커밋 상태를 봄 (사용자 행 잠금 뒤 호출)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from ProfileImage p where p.user.id = :userId")
+    Optional<ProfileImage> findForUpdateByUserId(@Param("userId") Long userId);
+
+    // 내용(data) 컬럼 없이 메타데이터만 조회
+    @Query("""
+            select new com.backend.profile_image.dto.ProfileImageMeta(
+                p.user.id, p.contentType, p.originalName, p.size, p.storageKey, p.smallKey, p.mediumKey
+            )
+            from ProfileImage p
+            where p.user.id = :userId
+            """)
+    Optional<ProfileImageMeta> findMetaByUserId(@Param("userId") Long userId);
+
+    @Query("""
+            select new com.backend.profile_image.dto.ProfileImageMeta(
+                p.user.id, p.contentType, p.originalName, p.size, p.storageKey, p.smallKey, p.mediumKey
+            )
+            from ProfileImage p
+            where p.user.id in :userIds
+            """)
+    List<ProfileImageMeta> findMetaByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // BlobStore 이전 전 이미지 내용 (트랜잭션 없이 조회)
+    @Query("select p.data from ProfileImage p where p.user.id = :userId")
+    Optional<byte[]> findDataByUserId(@Param("userId") Long userId);
+
+    // 같은 내용을 다른 이미지(원본 또는 변형)가 쓰고 있으면 파일을 지우지 않음
+    @Query("""
+            select count(p) > 0 from ProfileImage p
+            where p.storageKey = :key
+            or p.smallKey = :key
+            or p.mediumKey = :key
+            """)
+    boolean existsByAnyKey(@Param("key") String key);
+
+    // 변형 생성 완료 기록 (그 사이 이미지가 교체됐으면 0건)
+    @Transactional
+    @Modifying
+    @Query("""
+            update ProfileImage p
+            set p.smallKey = :smallKey, p.mediumKey = :mediumKey
+            where p.user.id = :userId
+            and p.storageKey = :storageKey
+            """)
+    int updateVariantKeys(
+            @Param("userId") Long userId,
+            @Param("storageKey") String storageKey,
+            @Param("smallKey") String smallKey,
+            @Param("mediumKey") String mediumKey
+    );
+
+    interface VariantTarget {
+        Long getId();
+
+        Long getUserId();
+
+        String getStorageKey();
+    }
+
+    // 변형이 없는 이미지 (id 기준 keyset 청크 조회)
+    @Query("""
+            select p.id as id, p.user.id as userId, p.storageKey as storageKey
+            from ProfileImage p
+            where p.storageKey is not null
+            and p.smallKey is null
+            and p.id > :lastId
+            order by p.id asc
+            """)
+    List<VariantTarget> findVariantTargetsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // BlobStore 로 옮기지 않은 이미지 (id 기준 keyset 청크 조회)
+    @Query("""
+            select p.id from ProfileImage p
+            where p.storageKey is null
+            and p.id > :lastId
+            order by p.id asc
+            """)
+    List<Long> findUnmigratedIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    interface MigrationSource {
+        Long getUserId();
+
+        byte[] getData();
+    }
+
+    // 이전할 내용 (엔티티로 읽지 않아 flush 로 다른 컬럼을 덮어쓰지 않음)
+    @Query("""
+            select p.user.id as userId, p.data as data
+            from ProfileImage p
+            where p.id = :id
+            and p.storageKey is null
+            """)
+    Optional<MigrationSource> findMigrationSource(@Param("id") Long id);
+
+    // BlobStore 이전 기록 (그 사이 새 이미지가 업로드됐으면 0건, 새 storage_key 를 덮어쓰지 않음)
+    @Modifying
+    @Query("""
+            update ProfileImage p
+            set p.storageKey = :storageKey, p.data = null
+            where p.id = :id
+            and p.storageKey is null
+            """)
+    int moveToStorage(@Param("id") Long id, @Param("storageKey") String storageKey);
 }
\ No newline at end of file
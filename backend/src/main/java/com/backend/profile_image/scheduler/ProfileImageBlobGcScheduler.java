@@ -0,0 +1,61 @@
+package com.backend.profile_image.scheduler;
+
+import com.backend.profile_image.service.ProfileImageBlobGcService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 참조가 사라진 BlobStore 파일 정리
+ * <br/>
+ * 삭제 후보로 기록된 지 GRACE 가 지난 키만 확인. 업로드 트랜잭션이 커밋되기 전에
+ * 같은 내용의 파일이 지워지지 않도록 유예 시간은 업로드 한 건보다 충분히 길게 잡음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageBlobGcScheduler {
+
+    private static final Duration GRACE = Duration.ofHours(1);
+    private static final int CHUNK_SIZE = 100;
+
+    private final ProfileImageBlobGcService profileImageBlobGcService;
+
+    @Scheduled(initialDelay = 300_000, fixedDelay = 600_000)
+    public void sweep() {
+
+        long startedAt = System.currentTimeMillis();
+        int chunk = 0;
+        int totalDeleted = 0;
+        int totalKept = 0;
+
+        while (true) {
+            ProfileImageBlobGcService.SweepResult result;
+            try {
+                result = profileImageBlobGcService.sweepChunk(GRACE, CHUNK_SIZE);
+            } catch (Exception e) {
+                log.error("[ProfileImageBlobGc] chunk failed. chunk={}", chunk + 1, e);
+                break;
+            }
+
+            if (result.read() == 0) break;
+
+            chunk++;
+            totalDeleted += result.deleted();
+            totalKept += result.kept();
+
+            if (result.isLast(CHUNK_SIZE)) break;
+        }
+
+        if (chunk > 0) {
+            log.info("[ProfileImageBlobGc] finished. chunks={}, deleted={}, kept={}, elapsedMs={}",
+                    chunk,
+                    totalDeleted,
+                    totalKept,
+                    System.currentTimeMillis() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.backend.profile_image.scheduler;
+
+import com.backend.profile_image.service.ProfileImageMigrationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.BiFunction;
+
+/**
+ * profile_images.data(LONGBLOB) -> BlobStore 이전
+ * <br/>
+ * 기동 1분 후 시작해 남은 행이 없을 때까지 청크 단위로 처리, 이후에는 매시간 남은 행만 확인
+ * <br/>
+ * 같은 방식으로 변형(SMALL, MEDIUM)이 없는 이미지도 백필
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileImageMigrationScheduler {
+
+    // 이미지 1건이 최대 10MB 이므로 청크를 작게 유지
+    private static final int CHUNK_SIZE = 10;
+
+    private final ProfileImageMigrationService profileImageMigrationService;
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 3_600_000)
+    public void migrateToBlobStore() {
+        runChunks("ProfileImageMigration", profileImageMigrationService::migrateChunk);
+    }
+
+    // 이전이 끝난 이미지와 작업 풀 큐가 가득 차 건너뛴 업로드의 변형 생성
+    @Scheduled(initialDelay = 120_000, fixedDelay = 3_600_000)
+    public void generateMissingVariants() {
+        runChunks("ProfileImageVariant", profileImageMigrationService::generateVariantsChunk);
+    }
+
+    private void runChunks(
+            String jobName,
+            BiFunction<Long, Integer, ProfileImageMigrationService.MigrationChunkResult> chunkRunner
+    ) {
+
+        long startedAt = System.currentTimeMillis();
+        Long lastId = 0L;
+        int chunk = 0;
+        int totalProcessed = 0;
+
+        while (true) {
+            ProfileImageMigrationService.MigrationChunkResult result;
+            try {
+                result = chunkRunner.apply(lastId, CHUNK_SIZE);
+            } catch (Exception e) {
+                log.error("[{}] chunk failed. chunk={}, lastId={}", jobName, chunk + 1, lastId, e);
+                break;
+            }
+
+            if (result.read() == 0) break;
+
+            chunk++;
+            totalProcessed += result.migrated();
+            lastId = result.lastId();
+
+            if (result.isLast(CHUNK_SIZE)) break;
+        }
+
+        if (chunk > 0) {
+            log.info("[{}] finished. chunks={}, processed={}, elapsedMs={}",
+                    jobName,
+                    chunk,
+                    totalProcessed,
+                    System.currentTimeMillis() - startedAt);
+        }
+    }
+}
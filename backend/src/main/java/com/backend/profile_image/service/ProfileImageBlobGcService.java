@@ -0,0 +1,23 @@
+package com.backend.profile_image.service;
+
+import java.time.Duration;
+import java.util.Collection;
+
+public interface ProfileImageBlobGcService {
+
+    /**
+     * 참조가 사라졌을 수 있는 키를 삭제 후보로 기록 (호출한 트랜잭션과 별도로 즉시 커밋)
+     */
+    void mark(Collection<String> storageKeys);
+
+    /**
+     * 유예 시간이 지난 후보를 chunkSize 건씩 확인해, 어떤 이미지도 참조하지 않고 그동안 다시 저장되지 않은 파일만 삭제
+     */
+    SweepResult sweepChunk(Duration grace, int chunkSize);
+
+    record SweepResult(int read, int deleted, int kept) {
+        public boolean isLast(int chunkSize) {
+            return read < chunkSize;
+        }
+    }
+}
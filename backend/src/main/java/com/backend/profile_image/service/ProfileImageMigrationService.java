@@ -0,0 +1,20 @@
+package com.backend.profile_image.service;
+
+public interface ProfileImageMigrationService {
+
+    /**
+     * LONGBLOB 에 남아 있는 이미지를 lastId 이후부터 chunkSize 건씩 BlobStore 로 이전 (청크 단위 커밋)
+     */
+    MigrationChunkResult migrateChunk(Long lastId, int chunkSize);
+
+    /**
+     * BlobStore 에 있지만 변형이 없는 이미지를 lastId 이후부터 chunkSize 건씩 변형 생성 (건별 기록)
+     */
+    MigrationChunkResult generateVariantsChunk(Long lastId, int chunkSize);
+
+    record MigrationChunkResult(int read, int migrated, Long lastId) {
+        public boolean isLast(int chunkSize) {
+            return read < chunkSize;
+        }
+    }
+}
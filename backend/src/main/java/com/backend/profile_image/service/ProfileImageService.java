@@ -1,11 +1,26 @@
 package com.backend.profile_image.service;
 
-import com.backend.profile_image.entity.ProfileImage;
+import com.backend.profile_image.dto.ProfileImageContent;
+import com.backend.profile_image.dto.ProfileImageMeta;
+import com.backend.profile_image.dto.ProfileImageSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface ProfileImageService {
 
     void uploadOrReplace(Long userId, MultipartFile file);
 
-    ProfileImage download(Long userId);
-}
\ No newline at end of file
+    // 메타데이터만 조회 (조건부 요청 판단용)
+    ProfileImageMeta getMeta(Long userId);
+
+    // 요청 크기의 변형이 아직 없으면 원본
+    ProfileImageContent download(ProfileImageMeta meta, ProfileImageSize size);
+
+    // 탈퇴 시 호출 (행은 User cascade 로 삭제되고, 원본/변형 파일은 GC 후보로 기록)
+    void releaseForDeletedUser(Long userId);
+
+    // 사용자별 버전 포함 목록용(SMALL) 이미지 URL (이미지가 없는 사용자는 제외)
+    Map<Long, String> getImageUrls(Collection<Long> userIds);
+}
@@ -0,0 +1,29 @@
+package com.backend.profile_image.service;
+
+import com.backend.profile_image.repository.ProfileImageRepository;
+
+import java.util.List;
+
+public interface ProfileImageVariantService {
+
+    /**
+     * 커밋 후 작업 풀에서 변형(SMALL, MEDIUM) 생성 (풀이 가득 차면 건너뛰고 백필 스케줄러가 처리)
+     */
+    void generateAfterCommit(Long userId, String storageKey);
+
+    /**
+     * 원본을 한 번 디코딩해 모든 변형을 만들고 키를 기록 (작업 풀 스레드에서 호출)
+     * <br/>
+     * 디코딩에 실패하면(손상/미지원 형식) 원본 키를 기록해 다시 시도하지 않음
+     *
+     * @return 기록 여부 (그 사이 이미지가 교체됐으면 false)
+     */
+    boolean generate(Long userId, String storageKey);
+
+    /**
+     * 백필용: 같은 작업 풀에서 생성하고 끝날 때까지 대기 (큐가 가득 차면 자리가 날 때까지 대기)
+     *
+     * @return 기록된 건수
+     */
+    int generateInPool(List<ProfileImageRepository.VariantTarget> targets);
+}
@@ -0,0 +1,77 @@
+package com.backend.profile_image.service.impl;
+
+import com.backend.profile_image.repository.BlobGcCandidateRepository;
+import com.backend.profile_image.repository.BlobStore;
+import com.backend.profile_image.repository.ProfileImageCache;
+import com.backend.profile_image.repository.ProfileImageRepository;
+import com.backend.profile_image.service.ProfileImageBlobGcService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class ProfileImageBlobGcServiceImpl implements ProfileImageBlobGcService {
+
+    private final BlobGcCandidateRepository blobGcCandidateRepository;
+    private final ProfileImageRepository profileImageRepository;
+    private final BlobStore blobStore;
+    private final ProfileImageCache profileImageCache;
+
+    // 호출한 트랜잭션이 롤백돼도 후보는 남아야 하므로 별도 트랜잭션
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void mark(Collection<String> storageKeys) {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        storageKeys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(key -> blobGcCandidateRepository.mark(key, now));
+    }
+
+    @Override
+    @Transactional
+    public SweepResult sweepChunk(Duration grace, int chunkSize) {
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(grace);
+
+        List<String> keys = blobGcCandidateRepository.findDueKeys(cutoff, PageRequest.of(0, chunkSize));
+
+        int deleted = 0;
+        int kept = 0;
+        for (String key : keys) {
+
+            // 아직 참조하는 이미지가 있으면 후보에서만 제외
+            if (profileImageRepository.existsByAnyKey(key)) {
+                blobGcCandidateRepository.deleteIfDue(key, cutoff);
+                kept++;
+                continue;
+            }
+
+            // 유예 시간 안에 다시 저장된 파일(커밋 전 업로드 등)은 유예를 다시 시작
+            if (!blobStore.deleteIfIdleSince(key, cutoff.atZone(ZoneId.systemDefault()).toInstant())) {
+                blobGcCandidateRepository.mark(key, now);
+                kept++;
+                continue;
+            }
+
+            profileImageCache.evictContent(key);
+            blobGcCandidateRepository.deleteIfDue(key, cutoff);
+            deleted++;
+        }
+
+        return new SweepResult(keys.size(), deleted, kept);
+    }
+}
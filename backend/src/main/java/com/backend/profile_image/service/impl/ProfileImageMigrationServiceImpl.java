@@ -0,0 +1,79 @@
+package com.backend.profile_image.service.impl;
+
+import com.backend.profile_image.repository.BlobStore;
+import com.backend.profile_image.repository.ProfileImageCache;
+import com.backend.profile_image.repository.ProfileImageRepository;
+import com.backend.profile_image.service.ProfileImageBlobGcService;
+import com.backend.profile_image.service.ProfileImageMigrationService;
+import com.backend.profile_image.service.ProfileImageVariantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfileImageMigrationServiceImpl implements ProfileImageMigrationService {
+
+    private final ProfileImageRepository profileImageRepository;
+    private final BlobStore blobStore;
+    private final ProfileImageCache profileImageCache;
+    private final ProfileImageBlobGcService profileImageBlobGcService;
+    private final ProfileImageVariantService profileImageVariantService;
+
+    @Override
+    @Transactional
+    public MigrationChunkResult migrateChunk(Long lastId, int chunkSize) {
+
+        List<Long> ids = profileImageRepository.findUnmigratedIdsAfter(lastId, PageRequest.of(0, chunkSize));
+
+        if (ids.isEmpty()) {
+            return new MigrationChunkResult(0, 0, lastId);
+        }
+
+        int migrated = 0;
+        for (Long id : ids) {
+            ProfileImageRepository.MigrationSource source = profileImageRepository.findMigrationSource(id).orElse(null);
+            if (source == null || source.getData() == null) continue;
+
+            try {
+                BlobStore.StoredBlob blob = blobStore.put(new ByteArrayInputStream(source.getData()));
+                // 청크가 롤백되거나 그 사이 업로드로 기록하지 못하면 GC 가 정리
+                profileImageBlobGcService.mark(List.of(blob.key()));
+
+                // 업로드가 먼저 커밋됐으면 storage_key 가 채워져 있으므로 건너뜀 (새 이미지를 이전 내용으로 되돌리지 않음)
+                if (profileImageRepository.moveToStorage(id, blob.key()) == 0) continue;
+
+                profileImageCache.evict(source.getUserId());
+                migrated++;
+            } catch (IOException e) {
+                // 다음 실행 때 다시 시도
+                log.warn("[ProfileImageMigration] store failed. profileImageId={}", id, e);
+            }
+        }
+
+        return new MigrationChunkResult(ids.size(), migrated, ids.getLast());
+    }
+
+    // 디코딩이 오래 걸리므로 트랜잭션 없이, 업로드와 같은 작업 풀에서 생성/기록
+    @Override
+    public MigrationChunkResult generateVariantsChunk(Long lastId, int chunkSize) {
+
+        List<ProfileImageRepository.VariantTarget> targets =
+                profileImageRepository.findVariantTargetsAfter(lastId, PageRequest.of(0, chunkSize));
+
+        if (targets.isEmpty()) {
+            return new MigrationChunkResult(0, 0, lastId);
+        }
+
+        int generated = profileImageVariantService.generateInPool(targets);
+
+        return new MigrationChunkResult(targets.size(), generated, targets.getLast().getId());
+    }
+}
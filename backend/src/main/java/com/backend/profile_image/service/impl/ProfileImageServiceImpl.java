@@ -3,17 +3,36 @@ package com.backend.profile_image.service.impl;
 import com.backend.global.exception.domain.UserErrorCode;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.global.validator.RoleValidator;
+import com.backend.profile_image.dto.ProfileImageContent;
+import com.backend.profile_image.dto.ProfileImageFormat;
+import com.backend.profile_image.dto.ProfileImageMeta;
+import com.backend.profile_image.dto.ProfileImageSize;
 import com.backend.profile_image.entity.ProfileImage;
+import com.backend.profile_image.repository.BlobStore;
+import com.backend.profile_image.repository.ProfileImageCache;
 import com.backend.profile_image.repository.ProfileImageRepository;
+import com.backend.profile_image.service.ProfileImageBlobGcService;
 import com.backend.profile_image.service.ProfileImageService;
+import com.backend.profile_image.service.ProfileImageVariantService;
 import com.backend.user.entity.User;
+import com.backend.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,10 +41,18 @@ public class ProfileImageServiceImpl implements ProfileImageService {
     private static final long MAX_SIZE = 10L * 1024 * 1024;
 
     private final ProfileImageRepository profileImageRepository;
+    private final BlobStore blobStore;
+    private final ProfileImageCache profileImageCache;
     private final RoleValidator roleValidator;
+    private final UserRepository userRepository;
+    private final ProfileImageVariantService profileImageVariantService;
+    private final ProfileImageBlobGcService profileImageBlobGcService;
 
     /**
      * 이미지 업로드 및 교체
+     * <br/>
+     * 업로드 스트림을 힙에 올리지 않고 BlobStore 임시 파일로 바로 기록 (해시는 기록하면서 계산),
+     * 형식은 앞부분 시그니처로 판별. 교체는 기존 행 UPDATE 한 번이라 이미지가 없는 순간이 없음
      */
     @Override
     @Transactional
@@ -35,39 +62,120 @@ public class ProfileImageServiceImpl implements ProfileImageService {
 
         validateFile(file);
 
-        // 교체: 기존 이미지 있으면 삭제 후 저장 (unique 충돌 방지)
-        profileImageRepository.findByUser_Id(userId).ifPresent(existing -> {
-            profileImageRepository.delete(existing);
-            profileImageRepository.flush();
-        });
+        ProfileImageFormat format;
+        BlobStore.StoredBlob blob;
+        try (InputStream in = new BufferedInputStream(file.getInputStream())) {
+            format = sniffFormat(in);
+            blob = blobStore.put(in);
+        } catch (IOException e) {
+            throw new BusinessException(UserErrorCode.PROFILE_IMAGE_SAVE_FAILED);
+        }
+
+        // 롤백/장애로 어떤 행도 참조하지 않게 되면 GC 가 정리 (커밋되면 참조가 있으므로 후보에서 빠짐)
+        profileImageBlobGcService.mark(List.of(blob.key()));
+
+        String originalName = safeOriginalName(file.getOriginalFilename());
+
+        // 사용자 행을 잠가 같은 사용자의 동시 업로드를 순서대로 반영
+        // (이미지 행을 잠그면 최초 업로드처럼 행이 없을 때 아무것도 잠기지 않아 둘 다 insert 를 시도함)
+        userRepository.findForUpdateById(userId);
+        ProfileImage existing = profileImageRepository.findForUpdateByUserId(userId).orElse(null);
 
-        try {
-            ProfileImage profileImage = ProfileImage.of(
+        if (existing == null) {
+            profileImageRepository.save(ProfileImage.of(
                     creator,
-                    safeOriginalName(file.getOriginalFilename()),
-                    file.getContentType(),
-                    file.getSize(),
-                    file.getBytes()
+                    originalName,
+                    format.contentType(),
+                    blob.size(),
+                    blob.key()
+            ));
+        } else {
+            // 이전 원본/변형 파일은 GC 가 참조를 다시 확인한 뒤 정리 (다른 이미지가 같은 내용을 쓸 수 있음)
+            profileImageBlobGcService.mark(
+                    Stream.of(existing.getStorageKey(), existing.getSmallKey(), existing.getMediumKey())
+                            .filter(Objects::nonNull)
+                            .filter(key -> !key.equals(blob.key()))
+                            .toList()
             );
-            profileImageRepository.save(profileImage);
 
-        } catch (IOException e) {
-            throw new BusinessException(UserErrorCode.PROFILE_IMAGE_SAVE_FAILED);
+            existing.replace(originalName, format.contentType(), blob.size(), blob.key());
         }
+
+        profileImageCache.evict(userId);
+
+        // 목록용 작은 이미지는 커밋 후 작업 풀에서 생성
+        profileImageVariantService.generateAfterCommit(userId, blob.key());
     }
 
     /**
      * 이미지 다운로드
+     * <br/>
+     * 작은 이미지(변형 등)는 캐시된 버퍼에서 응답, 그 외에는 BlobStore 에서 스트리밍
      */
     @Override
-    @Transactional(readOnly = true)
-    public ProfileImage download(Long userId) {
+    public ProfileImageContent download(ProfileImageMeta meta, ProfileImageSize size) {
 
-        return profileImageRepository
-                .findByUser_Id(userId)
+        if (profileImageCache.isCacheable(meta, size)) {
+            Resource cached = profileImageCache.getContent(meta.keyFor(size));
+            if (cached != null) {
+                return new ProfileImageContent(meta, cached);
+            }
+        }
+
+        Resource resource = meta.storageKey() != null
+                ? blobStore.get(meta.keyFor(size))
+                : legacyResource(meta.userId()); // 아직 BlobStore 로 이전되지 않은 이미지
+
+        // 변형 파일이 없으면 원본으로 대체
+        if (resource == null && meta.hasVariant(size)) {
+            resource = blobStore.get(meta.storageKey());
+        }
+
+        if (resource == null) {
+            throw new BusinessException(UserErrorCode.PROFILE_IMAGE_NOT_FOUND);
+        }
+
+        return new ProfileImageContent(meta, resource);
+    }
+
+    /**
+     * 이미지 메타데이터 조회 (내용 컬럼/파일은 읽지 않음, 캐시 적중 시 DB 조회 없음)
+     */
+    @Override
+    public ProfileImageMeta getMeta(Long userId) {
+
+        return profileImageCache
+                .getMeta(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.PROFILE_IMAGE_NOT_FOUND));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, String> getImageUrls(Collection<Long> userIds) {
+
+        if (userIds.isEmpty()) return Map.of();
+
+        return profileImageRepository.findMetaByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(ProfileImageMeta::userId, meta -> meta.url(ProfileImageSize.SMALL)));
+    }
+
+    @Override
+    public void releaseForDeletedUser(Long userId) {
+
+        profileImageRepository.findMetaByUserId(userId).ifPresent(meta ->
+                profileImageBlobGcService.mark(Stream.of(meta.storageKey(), meta.smallKey(), meta.mediumKey())
+                        .filter(Objects::nonNull)
+                        .toList())
+        );
+
+        profileImageCache.evict(userId);
+    }
+
+    private Resource legacyResource(Long userId) {
+        byte[] data = profileImageRepository.findDataByUserId(userId).orElse(null);
+        return data == null ? null : new ByteArrayResource(data);
+    }
+
     private void validateFile(MultipartFile file) {
 
         if (file == null || file.isEmpty()) {
@@ -77,16 +185,19 @@ public class ProfileImageServiceImpl implements ProfileImageService {
         if (file.getSize() > MAX_SIZE) {
             throw new BusinessException(UserErrorCode.PROFILE_IMAGE_TOO_LARGE);
         }
+    }
 
-        String contentType = file.getContentType();
-        String filename = file.getOriginalFilename();
+    // 확장자/Content-Type 은 클라이언트가 정하므로 믿지 않고 앞부분 바이트로 판별 (스트림 위치는 되돌림)
+    private ProfileImageFormat sniffFormat(InputStream in) throws IOException {
 
-        boolean contentTypeOk = contentType != null && contentType.toLowerCase().startsWith("image/");
-        boolean extOk = filename != null && filename.matches("(?i).+\\.(png|jpg|jpeg|gif|webp)$");
+        byte[] header = new byte[ProfileImageFormat.HEADER_LENGTH];
 
-        if (!contentTypeOk && !extOk) {
-            throw new BusinessException(UserErrorCode.PROFILE_IMAGE_INVALID_TYPE);
-        }
+        in.mark(header.length);
+        int length = in.readNBytes(header, 0, header.length);
+        in.reset();
+
+        return ProfileImageFormat.detect(header, length)
+                .orElseThrow(() -> new BusinessException(UserErrorCode.PROFILE_IMAGE_INVALID_TYPE));
     }
 
     private String safeOriginalName(String originalName) {
@@ -0,0 +1,304 @@
+package com.backend.profile_image.service.impl;
+
+import com.backend.profile_image.dto.ProfileImageSize;
+import com.backend.profile_image.repository.BlobStore;
+import com.backend.profile_image.repository.ProfileImageCache;
+import com.backend.profile_image.repository.ProfileImageRepository;
+import com.backend.profile_image.service.ProfileImageBlobGcService;
+import com.backend.profile_image.service.ProfileImageVariantService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 이미지 정사각형 변형 생성
+ * <br/>
+ * 디코딩은 원본당 한 번, 가장 큰 변형의 2배 해상도까지만 서브샘플링해 읽고
+ * 큰 변형부터 차례로 줄여 나감 (MEDIUM -> SMALL). 결과는 JPEG 로 BlobStore 에 저장
+ * <br/>
+ * 디코딩은 CPU/메모리를 많이 쓰므로 고정 크기 풀 + 제한된 큐에서만 실행
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfileImageVariantServiceImpl implements ProfileImageVariantService {
+
+    private static final int WORKERS = 2;
+    private static final int QUEUE_CAPACITY = 100;
+
+    // 디코딩 전 크기 확인 (압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final long BACKFILL_RETRY_DELAY_MS = 200;
+
+    private final ProfileImageRepository profileImageRepository;
+    private final BlobStore blobStore;
+    private final ProfileImageCache profileImageCache;
+    private final ProfileImageBlobGcService profileImageBlobGcService;
+
+    private final ThreadPoolExecutor workers = new ThreadPoolExecutor(
+            WORKERS,
+            WORKERS,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            Thread.ofPlatform().name("profile-image-variant-", 1).factory()
+    );
+
+    @Override
+    public void generateAfterCommit(Long userId, String storageKey) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(userId, storageKey);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(userId, storageKey);
+            }
+        });
+    }
+
+    @Override
+    public boolean generate(Long userId, String storageKey) {
+
+        Resource original = blobStore.get(storageKey);
+        if (original == null) {
+            log.warn("[ProfileImageVariant] original not found. userId={}, key={}", userId, storageKey);
+            return false;
+        }
+
+        Variants variants;
+        try (InputStream in = original.getInputStream()) {
+            variants = render(in, userId, storageKey);
+        } catch (IOException e) {
+            // 파일을 열지 못한 경우는 일시적일 수 있으므로 기록하지 않고 다음 백필에서 재시도
+            log.warn("[ProfileImageVariant] cannot open original. userId={}, key={}", userId, storageKey, e);
+            return false;
+        }
+
+        // 디코딩할 수 없는 이미지(webp, 손상된 파일 등)는 원본 키를 기록해 다시 시도하지 않음
+        String mediumKey = storageKey;
+        String smallKey = storageKey;
+
+        if (variants != null) {
+            try {
+                mediumKey = blobStore.put(new ByteArrayInputStream(variants.medium())).key();
+                smallKey = blobStore.put(new ByteArrayInputStream(variants.small())).key();
+            } catch (IOException e) {
+                log.warn("[ProfileImageVariant] store failed. userId={}, key={}", userId, storageKey, e);
+                return false;
+            }
+
+            // 기록 전에 이미지가 교체되거나 장애가 나면 GC 가 정리 (기록되면 참조가 있으므로 후보에서 빠짐)
+            profileImageBlobGcService.mark(List.of(mediumKey, smallKey));
+        }
+
+        // 그 사이 이미지가 교체됐으면 0건 (방금 만든 파일은 GC 후보로 남아 있음)
+        if (profileImageRepository.updateVariantKeys(userId, storageKey, smallKey, mediumKey) > 0) {
+            profileImageCache.evict(userId);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int generateInPool(List<ProfileImageRepository.VariantTarget> targets) {
+
+        List<Future<Boolean>> futures = new ArrayList<>(targets.size());
+        for (ProfileImageRepository.VariantTarget target : targets) {
+            Future<Boolean> future = submitWaiting(() -> generate(target.getUserId(), target.getStorageKey()));
+            if (future == null) break; // 종료 중
+            futures.add(future);
+        }
+
+        int generated = 0;
+        for (Future<Boolean> future : futures) {
+            try {
+                if (future.get()) generated++;
+            } catch (ExecutionException e) {
+                log.error("[ProfileImageVariant] backfill task failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return generated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private void submit(Long userId, String storageKey) {
+        try {
+            workers.execute(() -> {
+                try {
+                    generate(userId, storageKey);
+                } catch (Exception e) {
+                    log.error("[ProfileImageVariant] unexpected failure. userId={}", userId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[ProfileImageVariant] queue full, left for backfill. userId={}", userId);
+        }
+    }
+
+    // 큐가 가득 차 있으면 자리가 날 때까지 대기 (업로드 작업이 먼저 들어가도록 짧게 쉬며 재시도), 종료 중이면 null
+    private Future<Boolean> submitWaiting(Callable<Boolean> task) {
+        while (!workers.isShutdown()) {
+            try {
+                return workers.submit(task);
+            } catch (RejectedExecutionException e) {
+                try {
+                    Thread.sleep(BACKFILL_RETRY_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Variants(byte[] medium, byte[] small) {
+    }
+
+    // 디코딩/축소/인코딩, ImageIO 는 손상된 입력에 RuntimeException 도 던지므로 함께 처리. 읽을 수 없으면 null
+    private Variants render(InputStream in, Long userId, String storageKey) {
+        try {
+            BufferedImage decoded = decode(in);
+            if (decoded == null) return null;
+
+            BufferedImage medium = squareThumbnail(decoded, ProfileImageSize.MEDIUM.pixels());
+            BufferedImage small = squareThumbnail(medium, ProfileImageSize.SMALL.pixels());
+
+            return new Variants(encodeJpeg(medium), encodeJpeg(small));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[ProfileImageVariant] undecodable image, serving original. userId={}, key={}",
+                    userId, storageKey, e);
+            return null;
+        }
+    }
+
+    private BufferedImage decode(InputStream in) throws IOException {
+
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+
+            Iterator<ImageReader> readers = iis == null ? null : ImageIO.getImageReaders(iis);
+            if (readers == null || !readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) return null;
+
+                // 가장 큰 변형의 2배보다 큰 해상도는 디코딩 단계에서 건너뜀
+                int step = Math.max(1, Math.min(width, height) / (ProfileImageSize.MEDIUM.pixels() * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 가운데를 정사각형으로 잘라 size 이하로 축소 (원본보다 키우지 않음)
+    private BufferedImage squareThumbnail(BufferedImage source, int size) {
+
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage current = source.getSubimage(
+                (source.getWidth() - side) / 2,
+                (source.getHeight() - side) / 2,
+                side,
+                side
+        );
+
+        int target = Math.min(size, side);
+        int currentSide = side;
+
+        // bilinear 로 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 축소
+        while (currentSide / 2 >= target) {
+            currentSide /= 2;
+            current = draw(current, currentSide);
+        }
+
+        return currentSide == target && current.getType() == BufferedImage.TYPE_INT_RGB
+                ? current
+                : draw(current, target);
+    }
+
+    private BufferedImage draw(BufferedImage source, int side) {
+
+        BufferedImage out = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG 는 투명도가 없으므로 흰 배경 위에 그림
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, side, side);
+            g.drawImage(source, 0, 0, side, side, null);
+        } finally {
+            g.dispose();
+        }
+        return out;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
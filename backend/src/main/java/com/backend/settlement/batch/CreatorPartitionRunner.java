@@ -0,0 +1,172 @@
+package com.backend.settlement.batch;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToIntFunction;
+
+/**
+ * 크리에이터 id 구간(파티션)별 정산 작업 병렬 실행
+ * <br/>
+ * 크리에이터 id 를 정렬해 PARTITION_SIZE 개씩 연속 구간으로 나누고, 고정 크기 풀(WORKERS)에서 동시에 처리.
+ * 작업은 멱등이어야 하며(원장은 payment_id 유니크, 확정은 settlement_id IS NULL 조건),
+ * 실패한 파티션은 모든 파티션이 끝난 뒤 한 번 더 실행
+ */
+@Slf4j
+@Component
+public class CreatorPartitionRunner {
+
+    private static final int WORKERS = 4;
+    private static final int PARTITION_SIZE = 200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(
+            WORKERS,
+            Thread.ofPlatform().name("settlement-partition-", 1).factory()
+    );
+
+    public enum PartitionStatus {
+        COMPLETED,
+        FAILED
+    }
+
+    public record CreatorPartition(int index, List<Long> creatorIds) {
+        public Long fromId() {
+            return creatorIds.getFirst();
+        }
+
+        public Long toId() {
+            return creatorIds.getLast();
+        }
+    }
+
+    public record PartitionResult(
+            CreatorPartition partition,
+            PartitionStatus status,
+            int written,
+            int attempts,
+            long elapsedMs
+    ) {
+    }
+
+    public record RunSummary(
+            String jobName,
+            int creators,
+            List<PartitionResult> partitions,
+            long elapsedMs
+    ) {
+        public int written() {
+            return partitions.stream().mapToInt(PartitionResult::written).sum();
+        }
+
+        public long failed() {
+            return partitions.stream().filter(p -> p.status() == PartitionStatus.FAILED).count();
+        }
+    }
+
+    /**
+     * @param work 파티션 하나를 처리하고 기록한 행 수를 반환 (예외 시 파티션 실패)
+     */
+    public RunSummary run(String jobName, List<Long> creatorIds, ToIntFunction<CreatorPartition> work) {
+
+        long startedAt = System.currentTimeMillis();
+        List<CreatorPartition> partitions = partition(creatorIds);
+
+        log.info("[{}] start. creators={}, partitions={}, workers={}",
+                jobName, creatorIds.size(), partitions.size(), WORKERS);
+
+        List<PartitionResult> results = runAll(jobName, partitions, work, 1);
+
+        // 실패 파티션 재실행 (작업이 멱등이므로 이미 반영된 부분은 건너뜀)
+        List<CreatorPartition> failed = results.stream()
+                .filter(r -> r.status() == PartitionStatus.FAILED)
+                .map(PartitionResult::partition)
+                .toList();
+
+        if (!failed.isEmpty()) {
+            log.warn("[{}] retrying failed partitions. count={}", jobName, failed.size());
+
+            List<PartitionResult> retried = runAll(jobName, failed, work, 2);
+            List<PartitionResult> merged = new ArrayList<>(results.size());
+            for (PartitionResult r : results) {
+                merged.add(r.status() == PartitionStatus.FAILED
+                        ? retried.stream().filter(x -> x.partition().index() == r.partition().index()).findFirst().orElse(r)
+                        : r);
+            }
+            results = merged;
+        }
+
+        RunSummary summary = new RunSummary(jobName, creatorIds.size(), results, System.currentTimeMillis() - startedAt);
+
+        log.info("[{}] finished. creators={}, partitions={}, failed={}, written={}, elapsedMs={}",
+                jobName, summary.creators(), results.size(), summary.failed(), summary.written(), summary.elapsedMs());
+
+        return summary;
+    }
+
+    private List<PartitionResult> runAll(
+            String jobName,
+            List<CreatorPartition> partitions,
+            ToIntFunction<CreatorPartition> work,
+            int attempt
+    ) {
+        List<Future<PartitionResult>> futures = new ArrayList<>(partitions.size());
+        for (CreatorPartition p : partitions) {
+            futures.add(executor.submit(() -> runOne(jobName, p, work, attempt)));
+        }
+
+        List<PartitionResult> results = new ArrayList<>(partitions.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(new PartitionResult(partitions.get(i), PartitionStatus.FAILED, 0, attempt, 0));
+            } catch (ExecutionException e) {
+                results.add(new PartitionResult(partitions.get(i), PartitionStatus.FAILED, 0, attempt, 0));
+            }
+        }
+        return results;
+    }
+
+    private PartitionResult runOne(String jobName, CreatorPartition p, ToIntFunction<CreatorPartition> work, int attempt) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            int written = work.applyAsInt(p);
+            long elapsed = System.currentTimeMillis() - startedAt;
+
+            log.info("[{}] partition={} creatorId={}~{} status=COMPLETED written={} attempt={} elapsedMs={}",
+                    jobName, p.index(), p.fromId(), p.toId(), written, attempt, elapsed);
+
+            return new PartitionResult(p, PartitionStatus.COMPLETED, written, attempt, elapsed);
+        } catch (Exception e) {
+            long elapsed = System.currentTimeMillis() - startedAt;
+
+            log.error("[{}] partition={} creatorId={}~{} status=FAILED attempt={} elapsedMs={}",
+                    jobName, p.index(), p.fromId(), p.toId(), attempt, elapsed, e);
+
+            return new PartitionResult(p, PartitionStatus.FAILED, 0, attempt, elapsed);
+        }
+    }
+
+    private List<CreatorPartition> partition(List<Long> creatorIds) {
+        List<Long> sorted = creatorIds.stream().sorted().toList();
+        List<CreatorPartition> partitions = new ArrayList<>();
+
+        for (int from = 0, index = 0; from < sorted.size(); from += PARTITION_SIZE, index++) {
+            partitions.add(new CreatorPartition(index, sorted.subList(from, Math.min(from + PARTITION_SIZE, sorted.size()))));
+        }
+        return partitions;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
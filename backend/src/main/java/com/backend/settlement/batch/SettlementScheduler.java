@@ -4,7 +4,6 @@ package com.backend.settlement.batch;
 import com.backend.role.entity.RoleEnum;
 import com.backend.settlement.service.impl.SettlementBatchServiceImpl;
 import com.backend.settlement_item.service.impl.SettlementItemBatchServiceImpl;
-import com.backend.user.entity.User;
 import com.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +21,7 @@ public class SettlementScheduler {
     private final UserRepository userRepository;
     private final SettlementItemBatchServiceImpl settlementItemBatchService;
     private final SettlementBatchServiceImpl settlementBatchService;
+    private final CreatorPartitionRunner creatorPartitionRunner;
 
     /**
      * 매주 월요일 00:10 - 지난주(월~일) 원장 기록
@@ -29,20 +29,14 @@ public class SettlementScheduler {
     @Scheduled(cron = "0 10 0 * * MON")
     public void recordWeeklyLedger() {
 
-        List<User> creators = userRepository.findAllByRoleEnum(RoleEnum.ROLE_CREATOR);
+        List<Long> creatorIds = userRepository.findIdsByRoleEnum(RoleEnum.ROLE_CREATOR);
 
-        for (User creator : creators) {
-            try {
-                //이번주 원장기록
-                int createdThisWeek = settlementItemBatchService.recordThisWeekLedger(creator.getId());
-                log.info("thisWeek ledger recorded. creatorId={}, created={}", creator.getId(), createdThisWeek);
-
-                int created = settlementItemBatchService.recordLastWeekLedger(creator.getId());
-                log.info("weekly ledger recorded. creatorId={}, created={}", creator.getId(), created);
-            } catch (Exception e) {
-                log.error("weekly ledger record failed. creatorId={}", creator.getId(), e);
-            }
-        }
+        // 크리에이터 id 구간별로 병렬 처리, 구간마다 INSERT ... SELECT 한 문장 (구간의 크리에이터 id 목록으로 조회)
+        creatorPartitionRunner.run(
+                "WeeklyLedger",
+                creatorIds,
+                p -> settlementItemBatchService.recordWeeklyLedgerForCreators(p.creatorIds())
+        );
     }
 
     /**
@@ -51,17 +45,31 @@ public class SettlementScheduler {
     @Scheduled(cron = "0 20 0 1 * *")
     public void confirmMonthlySettlement() {
 
-        //  UserRepository에 List<User> findAllByRoleEnum(RoleEnum roleEnum) 필요
-        List<User> creators = userRepository.findAllByRoleEnum(RoleEnum.ROLE_CREATOR);
+        List<Long> creatorIds = userRepository.findIdsByRoleEnum(RoleEnum.ROLE_CREATOR);
 
-        for (User creator : creators) {
+        // 크리에이터 id 구간별로 병렬 처리, 크리에이터마다 정산 1건 + bulk update 한 번
+        creatorPartitionRunner.run("MonthlySettlement", creatorIds, this::confirmPartition);
+    }
+
+    private int confirmPartition(CreatorPartitionRunner.CreatorPartition partition) {
+
+        int confirmed = 0;
+        int failed = 0;
+
+        for (Long creatorId : partition.creatorIds()) {
             try {
-                settlementBatchService.confirmLastMonth(creator.getId());
-                log.info("monthly settlement confirmed. creatorId={}", creator.getId());
+                confirmed += settlementBatchService.confirmLastMonth(creatorId);
             } catch (Exception e) {
-                log.error("monthly settlement confirm failed. creatorId={}", creator.getId(), e);
+                failed++;
+                log.error("monthly settlement confirm failed. creatorId={}", creatorId, e);
             }
         }
+
+        // 실패한 크리에이터가 있으면 파티션 실패로 보고 재실행 (이미 확정된 원장은 settlement_id 가 있어 제외됨)
+        if (failed > 0) {
+            throw new IllegalStateException("monthly settlement failed for " + failed + " creators");
+        }
+        return confirmed;
     }
 }
 // 스케줄러에서는 인터페이스에 정의된 메서드만 호출해야 하므로,
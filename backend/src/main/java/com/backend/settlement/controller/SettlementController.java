@@ -3,6 +3,7 @@ package com.backend.settlement.controller;
 import com.backend.global.util.CustomUserDetails;
 import com.backend.settlement.dto.SettlementResponseDto;
 import com.backend.settlement.dto.SettlementDetailResponse;
+import com.backend.settlement.dto.SettlementExportFormat;
 import com.backend.settlement.dto.SettlementItemResponse;
 import com.backend.settlement.service.SettlementService;
 import lombok.RequiredArgsConstructor;
@@ -10,10 +11,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -53,6 +58,29 @@ public class SettlementController {
         return settlementService.getSettlementDetail(settlementId, user.getUserId(), pageable);
     }
 
+    /**
+     * 정산 세부내역 전체 내보내기 (format = csv | ndjson)
+     */
+    @GetMapping("/{settlementId}/export")
+    public ResponseEntity<StreamingResponseBody> exportSettlementItems(
+            @PathVariable Long settlementId,
+            @AuthenticationPrincipal CustomUserDetails user,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        SettlementExportFormat exportFormat = SettlementExportFormat.from(format);
+
+        StreamingResponseBody body
+                = settlementService.exportSettlementItems(settlementId, user.getUserId(), exportFormat);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(exportFormat.fileName(settlementId))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 대기 중인 정산 조회 (settlement_id가 null인 SettlementItem)
      */
@@ -0,0 +1,36 @@
+package com.backend.settlement.dto;
+
+import com.backend.global.exception.common.BusinessException;
+import com.backend.global.exception.domain.SettlementErrorCode;
+
+// 정산 세부내역 내보내기 형식
+public enum SettlementExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    SettlementExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileName(Long settlementId) {
+        return "settlement-" + settlementId + "." + extension;
+    }
+
+    public static SettlementExportFormat from(String value) {
+        for (SettlementExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BusinessException(SettlementErrorCode.INVALID_EXPORT_FORMAT);
+    }
+}
@@ -77,6 +77,12 @@ public class Settlement {
         this.totalAmount += item.getSettlementAmount();
     }
 
+    // 집계된 합계로 정산 확정 (원장은 bulk update 로 연결)
+    public void completeWithTotal(long totalAmount) {
+        this.totalAmount = totalAmount;
+        complete();
+    }
+
     // 정산 확정
     public void complete() {
         this.status = SettlementStatus.COMPLETED;
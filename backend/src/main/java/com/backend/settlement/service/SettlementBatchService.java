@@ -4,6 +4,8 @@ public interface SettlementBatchService {
 
     /**
      * 전월(1일~말일) 기준으로 정산 확정 처리
+     *
+     * @return 확정된 원장 개수
      */
-    void confirmLastMonth(Long creatorId);
+    int confirmLastMonth(Long creatorId);
 }
@@ -1,16 +1,21 @@
 package com.backend.settlement.service;
 
 import com.backend.settlement.dto.SettlementDetailResponse;
+import com.backend.settlement.dto.SettlementExportFormat;
 import com.backend.settlement.dto.SettlementResponseDto;
 import com.backend.settlement.dto.SettlementItemResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface SettlementService {
     Page<SettlementResponseDto> getMySettlements(Long creatorId, Pageable pageable);
 
     SettlementDetailResponse getSettlementDetail(Long settlementId, Long loginUserId, Pageable pageable);
 
+    // 정산 세부내역 전체 내보내기 (CSV / NDJSON 스트리밍)
+    StreamingResponseBody exportSettlementItems(Long settlementId, Long loginUserId, SettlementExportFormat format);
+
     // 대기 중인 정산 조회 (settlement_id가 null인 SettlementItem)
     Page<SettlementItemResponse> getPendingSettlementItems(Long creatorId, Pageable pageable);
 
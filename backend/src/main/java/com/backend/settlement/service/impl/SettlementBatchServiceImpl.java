@@ -6,7 +6,6 @@ import com.backend.settlement.repository.SettlementRepository;
 
 import com.backend.settlement.service.SettlementBatchService;
 import com.backend.settlement.util.SettlementPeriod;
-import com.backend.settlement_item.entity.SettlementItem;
 import com.backend.settlement_item.entity.SettlementItemStatus;
 import com.backend.settlement_item.repository.SettlementItemRepository;
 import com.backend.user.entity.User;
@@ -16,7 +15,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -29,41 +27,53 @@ public class SettlementBatchServiceImpl implements SettlementBatchService {
     /**
      * 전월(1일~말일) 기준으로 정산 확정 처리
      * - RECORDED 이고 settlement이 없는 원장만 대상으로 한다.
+     * - 합계는 SUM 으로 집계하고, 원장은 UPDATE 한 번으로 정산에 연결 (원장 엔티티를 읽지 않음)
      */
     @Override
     @Transactional
-    public void confirmLastMonth(Long creatorId) {
+    public int confirmLastMonth(Long creatorId) {
 
         User creator = roleValidator.validateCreator(creatorId);
 
         LocalDate today = LocalDate.now();
         SettlementPeriod.Range range = SettlementPeriod.lastMonth(today);
 
-        List<SettlementItem> items = settlementItemRepository
-                .findByCreatorIdAndStatusAndSettlementIdIsNullAndCreatedAtBetween(
-                        creatorId,
-                        SettlementItemStatus.RECORDED,
-                        range.start(),
-                        range.end()
-                );
+        SettlementItemRepository.PendingTotal pending = settlementItemRepository.sumPendingByCreator(
+                creatorId,
+                SettlementItemStatus.RECORDED,
+                range.start(),
+                range.end()
+        );
 
-        if (items.isEmpty()) {
-            return;
+        if (pending.getItemCount() == 0) {
+            return 0;
         }
 
-        // Settlement는 0으로 시작해서 addSettlementItem에서 누적하는 게 안전
         Settlement settlement = Settlement.create(
                 creator,
                 range.start().toLocalDate(),
                 range.end().toLocalDate()
         );
+        settlement.completeWithTotal(pending.getSettlementAmount()); // COMPLETED + settledAt
         settlementRepository.save(settlement);
 
-        for (SettlementItem item : items) {
-            settlement.addSettlementItem(item); // settlement_id 세팅 + totalAmount 누적
-            item.confirm();                     // CONFIRMED
+        int assigned = settlementItemRepository.assignPendingToSettlement(
+                settlement,
+                SettlementItemStatus.CONFIRMED,
+                creatorId,
+                SettlementItemStatus.RECORDED,
+                range.start(),
+                range.end()
+        );
+
+        // 집계 이후 대상이 바뀌었으면 합계가 맞지 않으므로 롤백 (다음 실행에서 다시 확정)
+        if (assigned != pending.getItemCount()) {
+            throw new IllegalStateException(
+                    "settlement items changed during confirmation. creatorId=" + creatorId
+                            + ", expected=" + pending.getItemCount() + ", assigned=" + assigned
+            );
         }
 
-        settlement.complete(); // COMPLETED + settledAt
+        return assigned;
     }
 }
@@ -4,6 +4,7 @@ import com.backend.global.exception.domain.SettlementErrorCode;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.global.validator.RoleValidator;
 import com.backend.settlement.dto.SettlementDetailResponse;
+import com.backend.settlement.dto.SettlementExportFormat;
 import com.backend.settlement.dto.SettlementItemResponse;
 import com.backend.settlement.dto.SettlementResponseDto;
 import com.backend.settlement.entity.Settlement;
@@ -11,16 +12,25 @@ import com.backend.settlement.repository.SettlementRepository;
 import com.backend.settlement.service.SettlementService;
 import com.backend.settlement_item.entity.SettlementItem;
 import com.backend.settlement_item.entity.SettlementItemStatus;
+import com.backend.settlement_item.repository.SettlementItemExportRepository;
 import com.backend.settlement_item.repository.SettlementItemRepository;
 import com.backend.settlement_item.service.SettlementItemBatchService;
 import com.backend.user.entity.User;
 import com.backend.user.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -29,8 +39,12 @@ import java.util.List;
 
 public class SettlementServiceImpl implements SettlementService {
 
+    private static final int EXPORT_CHUNK_SIZE = 2_000;
+
     private final SettlementRepository settlementRepository;
     private final SettlementItemRepository settlementItemRepository;
+    private final SettlementItemExportRepository settlementItemExportRepository;
+    private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
     private final SettlementItemBatchService settlementItemBatchService;
     private final RoleValidator roleValidator;
@@ -96,6 +110,70 @@ public class SettlementServiceImpl implements SettlementService {
         );
     }
 
+    /**
+     * 정산 세부내역 내보내기
+     * <br/>
+     * 권한 확인은 요청 스레드에서 끝내고, 원장은 응답을 쓰는 시점에 커서로 한 행씩 읽어 바로 출력
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StreamingResponseBody exportSettlementItems(
+            Long settlementId,
+            Long loginUserId,
+            SettlementExportFormat format
+    ) {
+
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new BusinessException(SettlementErrorCode.SETTLEMENT_NOT_FOUND));
+
+        // 권한 체크: 내 정산만 조회 가능
+        if (!settlement.getCreator().getId().equals(loginUserId)) {
+            throw new BusinessException(SettlementErrorCode.SETTLEMENT_FORBIDDEN);
+        }
+
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+            if (format == SettlementExportFormat.CSV) {
+                writer.write("id,paymentId,totalAmount,platformFee,settlementAmount,status,createdAt\n");
+            }
+
+            // 청크마다 조회 후 커넥션을 돌려주고 쓰기 (느린 다운로드가 커넥션 풀을 잡고 있지 않음)
+            Long lastId = 0L;
+            while (true) {
+                List<SettlementItemResponse> chunk = settlementItemExportRepository
+                        .findChunkBySettlementId(settlementId, lastId, EXPORT_CHUNK_SIZE);
+
+                for (SettlementItemResponse item : chunk) {
+                    writer.write(format == SettlementExportFormat.CSV ? toCsvLine(item) : toJsonLine(item));
+                }
+                // 클라이언트가 다운로드를 끊었으면 여기서 IOException 으로 종료
+                writer.flush();
+
+                if (chunk.size() < EXPORT_CHUNK_SIZE) break;
+                lastId = chunk.getLast().id();
+            }
+        };
+    }
+
+    private String toCsvLine(SettlementItemResponse item) {
+        return item.id() + ","
+                + item.paymentId() + ","
+                + item.totalAmount() + ","
+                + item.platformFee() + ","
+                + item.settlementAmount() + ","
+                + item.status() + ","
+                + item.createdAt() + "\n";
+    }
+
+    private String toJsonLine(SettlementItemResponse item) throws IOException {
+        try {
+            return objectMapper.writeValueAsString(item) + "\n";
+        } catch (JsonProcessingException e) {
+            throw new IOException(e);
+        }
+    }
+
     /**
      * 대기 중인 정산 조회 (settlement_id가 null인 SettlementItem)
      * <br/>
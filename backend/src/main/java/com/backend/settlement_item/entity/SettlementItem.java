@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "settlement_items")
+@Table(
+        name = "settlement_items",
+        // 월 정산 확정 집계/일괄 연결 대상 탐색
+        indexes = @Index(name = "idx_settlement_item_creator_status", columnList = "creator_id, status, created_at")
+)
 @Getter
 @NoArgsConstructor
 public class SettlementItem {
@@ -0,0 +1,62 @@
+package com.backend.settlement_item.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 정산 원장 일괄 기록
+ * <br/>
+ * 결제를 엔티티로 읽지 않고 INSERT ... SELECT 한 문장으로 원장을 만든다.
+ * 이미 원장이 있는 결제는 anti-join 으로 제외하고, 동시에 기록된 경우에도 payment_id 유니크 제약으로 중복되지 않음 (IGNORE)
+ * <br/>
+ * 크리에이터는 구간이 아닌 id 목록(IN)으로 지정해 idx_payment_creator_paid(creator_id, paid_at) 에서
+ * 크리에이터별 기간 구간만 읽음. 읽는 행(공유 잠금 대상)도 해당 크리에이터의 기간 결제로 한정됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementItemBulkRepository {
+
+    // 수수료/정산 금액 계산은 SettlementItem.create 와 동일 (10% / 90%, 소수점 버림)
+    // IGNORE 로 건너뛴 중복은 영향 행 수에 포함되지 않으므로 반환값은 실제 기록된 원장 수
+    private static final String INSERT_LEDGER = """
+            INSERT IGNORE INTO settlement_items
+            (payment_id, creator_id, total_amount, platform_fee, settlement_amount, status, created_at)
+            SELECT p.id, p.creator_id, p.amount, FLOOR(p.amount * 0.1), FLOOR(p.amount * 0.9), 'RECORDED', ?
+            FROM payments p
+            LEFT JOIN settlement_items si ON si.payment_id = p.id
+            WHERE si.id IS NULL
+            AND p.creator_id IN (%s)
+            AND p.paid_at BETWEEN ? AND ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 크리에이터들의 기간 내 결제 중 원장이 없는 건을 기록
+     *
+     * @return 기록된 원장 수
+     */
+    public int insertLedger(Collection<Long> creatorIds, LocalDateTime start, LocalDateTime end) {
+        if (creatorIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = INSERT_LEDGER.formatted(String.join(",", Collections.nCopies(creatorIds.size(), "?")));
+
+        List<Object> args = new ArrayList<>(creatorIds.size() + 3);
+        args.add(Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(creatorIds);
+        args.add(Timestamp.valueOf(start));
+        args.add(Timestamp.valueOf(end));
+
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
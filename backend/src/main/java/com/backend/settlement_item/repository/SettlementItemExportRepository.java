@@ -0,0 +1,44 @@
+package com.backend.settlement_item.repository;
+
+import com.backend.settlement.dto.SettlementItemResponse;
+import com.backend.settlement_item.entity.SettlementItemStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 정산 원장 내보내기용 조회
+ * <br/>
+ * id 기준 keyset 청크로 나눠 읽어, 쿼리 한 번이 커넥션을 잡는 시간은 짧고(다운로드 속도와 무관)
+ * 메모리에는 청크 하나만 올라감. settlement_id 외래키 인덱스(+ PK)로 정렬 없이 범위 조회.
+ * payment_id 는 컬럼에서 바로 읽어 Payment 를 로딩하지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementItemExportRepository {
+
+    private static final String SELECT_CHUNK = """
+            SELECT id, payment_id, total_amount, platform_fee, settlement_amount, status, created_at
+            FROM settlement_items
+            WHERE settlement_id = ?
+            AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<SettlementItemResponse> findChunkBySettlementId(Long settlementId, Long lastId, int chunkSize) {
+        return jdbcTemplate.query(SELECT_CHUNK, (rs, rowNum) -> new SettlementItemResponse(
+                rs.getLong("id"),
+                rs.getLong("payment_id"),
+                rs.getLong("total_amount"),
+                rs.getLong("platform_fee"),
+                rs.getLong("settlement_amount"),
+                SettlementItemStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), settlementId, lastId, chunkSize);
+    }
+}
@@ -1,17 +1,18 @@
 package com.backend.settlement_item.repository;
 
+import com.backend.settlement.entity.Settlement;
 import com.backend.settlement_item.entity.SettlementItem;
 import com.backend.settlement_item.entity.SettlementItemStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 
 @Repository
@@ -20,12 +21,45 @@ public interface SettlementItemRepository extends JpaRepository<SettlementItem,
     // 정산 상세 조회용
     Page<SettlementItem> findBySettlementId(Long settlementId, Pageable pageable);
 
-    // 월 정산 확정 대상
-    List<SettlementItem> findByCreatorIdAndStatusAndSettlementIdIsNullAndCreatedAtBetween(
-            Long creatorId,
-            SettlementItemStatus status,
-            LocalDateTime start,
-            LocalDateTime end
+    interface PendingTotal {
+        long getItemCount();
+
+        long getSettlementAmount();
+    }
+
+    // 월 정산 확정 대상 합계 (엔티티 로딩 없이 DB 에서 집계)
+    @Query("""
+            SELECT count(si) AS itemCount, coalesce(sum(si.settlementAmount), 0) AS settlementAmount
+            FROM SettlementItem si
+            WHERE si.creator.id = :creatorId
+            AND si.status = :status
+            AND si.settlement IS NULL
+            AND si.createdAt BETWEEN :start AND :end
+            """)
+    PendingTotal sumPendingByCreator(
+            @Param("creatorId") Long creatorId,
+            @Param("status") SettlementItemStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
+    // 월 정산 확정 대상을 정산에 일괄 연결 + CONFIRMED
+    @Modifying
+    @Query("""
+            UPDATE SettlementItem si
+            SET si.settlement = :settlement, si.status = :confirmed
+            WHERE si.creator.id = :creatorId
+            AND si.status = :status
+            AND si.settlement IS NULL
+            AND si.createdAt BETWEEN :start AND :end
+            """)
+    int assignPendingToSettlement(
+            @Param("settlement") Settlement settlement,
+            @Param("confirmed") SettlementItemStatus confirmed,
+            @Param("creatorId") Long creatorId,
+            @Param("status") SettlementItemStatus status,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 
     // 대기 중인 정산 조회 (settlement_id가 null인 SettlementItem)
@@ -34,14 +68,6 @@ public interface SettlementItemRepository extends JpaRepository<SettlementItem,
             Pageable pageable
     );
 
-    // 이미 처리된 Payment ID 찾기 (IN 절 활용)
-    @Query("""
-            SELECT si.payment.id FROM SettlementItem si 
-            WHERE si.payment.id
-            IN :paymentIds
-            """)
-    Set<Long> findPaymentIdsByPaymentIdsIn(@Param("paymentIds") List<Long> paymentIds);
-
     // 정산 대기 중인 모든 아이템 조회
     List<SettlementItem> findByCreatorIdAndStatusAndSettlementIdIsNull(
             Long creatorId,
@@ -1,5 +1,7 @@
 package com.backend.settlement_item.service;
 
+import java.util.List;
+
 public interface SettlementItemBatchService {
 
     /**
@@ -13,4 +15,11 @@ public interface SettlementItemBatchService {
 
     //즉시 정산용
     int syncLedgerUpToNow(Long creatorId);
+
+    /**
+     * 크리에이터들의 지난주~이번주 결제를 원장으로 일괄 기록한다. (배치 파티션용)
+     *
+     * @return 생성된 원장 개수
+     */
+    int recordWeeklyLedgerForCreators(List<Long> creatorIds);
 }
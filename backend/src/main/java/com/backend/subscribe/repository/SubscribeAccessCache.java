@@ -0,0 +1,72 @@
+package com.backend.subscribe.repository;
+
+import com.backend.subscribe.entity.Subscribe;
+import com.backend.subscribe.entity.SubscribeStatus;
+import com.backend.subscribe.entity.SubscribeType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 게시글/댓글 접근 검증용 구독 정보 캐시 (subscriberId, creatorId)
+ * <br/>
+ * 만료일을 함께 저장하므로 만료 여부는 조회 시점에 판단.
+ * 구독하지 않은 경우(empty)도 캐시하며, 구독 변경 시 evict 로 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscribeAccessCache {
+
+    private final SubscribeRepository subscribeRepository;
+
+    // 다른 인스턴스에서 변경된 구독 상태도 TTL 안에 반영됨
+    private final Cache<Key, Optional<SubscribeAccess>> cache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    public record SubscribeAccess(
+            SubscribeType type,
+            SubscribeStatus status,
+            LocalDate expiredAt
+    ) {
+        static SubscribeAccess from(Subscribe subscribe) {
+            return new SubscribeAccess(subscribe.getType(), subscribe.getStatus(), subscribe.getExpiredAt());
+        }
+    }
+
+    private record Key(Long subscriberId, Long creatorId) {
+    }
+
+    public Optional<SubscribeAccess> get(Long subscriberId, Long creatorId) {
+        return cache.get(
+                new Key(subscriberId, creatorId),
+                k -> subscribeRepository
+                        .findByUser_IdAndCreator_Id(subscriberId, creatorId)
+                        .map(SubscribeAccess::from)
+        );
+    }
+
+    // 구독 생성/갱신/상태 변경/삭제/만료 처리 시 호출
+    // 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 후에도 한 번 더 제거
+    public void evict(Long subscriberId, Long creatorId) {
+        Key key = new Key(subscriberId, creatorId);
+        cache.invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+}
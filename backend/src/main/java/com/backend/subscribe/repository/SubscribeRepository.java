@@ -6,6 +6,7 @@ import com.backend.subscribe.entity.SubscribeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -30,25 +31,69 @@ public interface SubscribeRepository extends JpaRepository<Subscribe, Long> {
             """)
     List<Long> findCreatorIdsByUserId(@Param("userId") Long userId);
 
-    //만료일이 targetDate 인 구독 (알림)
+    // 타임라인 fan-out 용 구독자 id 목록
     @Query("""
-            select s from Subscribe s 
+            SELECT s.user.id FROM Subscribe s
+            WHERE s.creator.id = :creatorId
+            """)
+    List<Long> findUserIdsByCreatorId(@Param("creatorId") Long creatorId);
+
+    interface ExpiringSubscribe {
+        Long getId();
+
+        Long getUserId();
+
+        String getCreatorNickname();
+    }
+
+    //만료일이 targetDate 인 구독 (알림 일괄 생성용, 엔티티 로딩 없음)
+    @Query("""
+            select s.id as id, s.user.id as userId, c.nickname as creatorNickname
+            from Subscribe s
+            join s.creator c
             where s.status = :status
             and s.expiredAt = :targetDate
             """)
-    List<Subscribe> findExpiringAt(
+    List<ExpiringSubscribe> findExpiringTargets(
             @Param("status") SubscribeStatus status,
             @Param("targetDate") LocalDate targetDate
     );
 
-    //만료일이 지난 구독
+    interface SubscribeKey {
+        Long getId();
+
+        Long getUserId();
+
+        Long getCreatorId();
+    }
+
+    //만료일이 지난 구독 (id 기준 keyset 청크 조회, 연관 엔티티 로딩 없음)
     @Query("""
-            select s from Subscribe s 
-            where s.status = :status 
+            select s.id as id, s.user.id as userId, s.creator.id as creatorId
+            from Subscribe s
+            where s.status = :status
             and s.expiredAt < :today
+            and s.id > :lastId
+            order by s.id asc
             """)
-    List<Subscribe> findExpiredBefore(
+    List<SubscribeKey> findExpiredKeysAfter(
             @Param("status") SubscribeStatus status,
-            @Param("today") LocalDate today
+            @Param("today") LocalDate today,
+            @Param("lastId") Long lastId,
+            Pageable pageable
+    );
+
+    //만료된 멤버십 구독 -> 일반 구독 일괄 전환
+    @Modifying
+    @Query("""
+            update Subscribe s
+            set s.expiredAt = null, s.type = :type
+            where s.id in :ids
+            and s.expiredAt < :today
+            """)
+    int renewFreeByIds(
+            @Param("ids") List<Long> ids,
+            @Param("today") LocalDate today,
+            @Param("type") SubscribeType type
     );
 }
@@ -1,19 +1,20 @@
 package com.backend.subscribe.scheduler;
 
 import com.backend.notification.dto.NotificationContext;
+import com.backend.notification.dto.NotificationDraft;
 import com.backend.notification.entity.NotificationType;
 import com.backend.notification.entity.NotificationTargetType;
 import com.backend.notification.service.NotificationCommand;
-import com.backend.subscribe.entity.Subscribe;
 import com.backend.subscribe.entity.SubscribeStatus;
 import com.backend.subscribe.repository.SubscribeRepository;
+import com.backend.subscribe.service.SubscribeBatchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -23,69 +24,92 @@ public class SubscribeScheduler {
 
     private final SubscribeRepository subscribeRepository;
     private final NotificationCommand notificationCommand;
+    private final SubscribeBatchService subscribeBatchService;
+
+    private static final int EXPIRE_CHUNK_SIZE = 500;
 
     // 매일 9시마다 체크 (만료 7일 전/3일 전 알림)
-    @Transactional
     @Scheduled(cron = "0 0 9 * * *")
     public void notifyExpiringSubscriptions() {
         LocalDate today = LocalDate.now();
 
-        LocalDate target7 = today.plusDays(7);
-        LocalDate target3 = today.plusDays(3);
+        long startedAt = System.currentTimeMillis();
+        log.info("[SubscribeScheduler] Expire notification start");
 
-        List<Subscribe> expiringIn7Days =
-                subscribeRepository.findExpiringAt(SubscribeStatus.ACTIVE, target7);
+        List<NotificationDraft> drafts = new ArrayList<>();
+        int expiringIn7Days = collectExpireDrafts(drafts, today, 7);
+        int expiringIn3Days = collectExpireDrafts(drafts, today, 3);
 
-        List<Subscribe> expiringIn3Days =
-                subscribeRepository.findExpiringAt(SubscribeStatus.ACTIVE, target3);
+        int created = notificationCommand.createNotifications(drafts);
 
-        log.info("[SubscribeScheduler] Expire notification start");
-        for (Subscribe s : expiringIn7Days) {
-            notificationCommand.createNotification(
-                    s.getUser().getId(),
-                    NotificationType.SUBSCRIBE_EXPIRE_SOON,
-                    NotificationTargetType.SUBSCRIBE,
-                    s.getId(),
-                    NotificationContext.forExpire(
-                            s.getCreator().getNickname(),
-                            7
-                    )
-            );
-        }
+        log.info("[SubscribeScheduler] Expire notification finished. 7days={}, 3days={}, created={}, elapsedMs={}",
+                expiringIn7Days,
+                expiringIn3Days,
+                created,
+                System.currentTimeMillis() - startedAt
+        );
+    }
 
-        for (Subscribe s : expiringIn3Days) {
-            notificationCommand.createNotification(
-                    s.getUser().getId(),
+    private int collectExpireDrafts(List<NotificationDraft> drafts, LocalDate today, int daysLeft) {
+        List<SubscribeRepository.ExpiringSubscribe> expiring =
+                subscribeRepository.findExpiringTargets(SubscribeStatus.ACTIVE, today.plusDays(daysLeft));
+
+        for (SubscribeRepository.ExpiringSubscribe s : expiring) {
+            drafts.add(NotificationDraft.of(
+                    s.getUserId(),
                     NotificationType.SUBSCRIBE_EXPIRE_SOON,
                     NotificationTargetType.SUBSCRIBE,
                     s.getId(),
-                    NotificationContext.forExpire(
-                            s.getCreator().getNickname(),
-                            3
-                    )
-            );
+                    NotificationContext.forExpire(s.getCreatorNickname(), daysLeft)
+            ));
         }
-
-        log.info("[SubscribeScheduler] Expire notification finished. 7days={}, 3days={}",
-                expiringIn7Days.size(),
-                expiringIn3Days.size()
-        );
+        return expiring.size();
     }
 
     // 매일 0시 0분 10초에 체크 (만료된 멤버쉽 구독 ->일반구독으로 전환)
-    @Transactional
+    // 청크 단위로 커밋하므로 전체를 하나의 트랜잭션으로 묶지 않음
     @Scheduled(cron = "10 0 0 * * *")
     public void expirePaidSubscriptions() {
         LocalDate today = LocalDate.now();
-        List<Subscribe> expired = subscribeRepository.findExpiredBefore(SubscribeStatus.ACTIVE, today);
 
-        for (Subscribe s : expired) {
-                s.renewFree();
-            log.info("[toFREE] - subscribeId={}, userId={}, creatorId={}, expiredAt={}",
-                    s.getId(),
-                    s.getUser().getId(),
-                    s.getCreator().getId(),
-                    s.getExpiredAt());
+        long startedAt = System.currentTimeMillis();
+        Long lastId = 0L;
+        int chunk = 0;
+        int totalUpdated = 0;
+
+        log.info("[SubscribeScheduler] Expire paid subscriptions start. today={}", today);
+
+        while (true) {
+            long chunkStartedAt = System.currentTimeMillis();
+
+            SubscribeBatchService.ExpireChunkResult result;
+            try {
+                result = subscribeBatchService.expirePaidChunk(today, lastId, EXPIRE_CHUNK_SIZE);
+            } catch (Exception e) {
+                // 커밋된 청크는 유지, 다음 실행 때 남은 구독부터 다시 처리
+                log.error("[SubscribeScheduler] Expire chunk failed. chunk={}, lastId={}", chunk + 1, lastId, e);
+                break;
+            }
+
+            if (result.read() == 0) break;
+
+            chunk++;
+            totalUpdated += result.updated();
+            lastId = result.lastId();
+
+            log.info("[toFREE] chunk={}, read={}, updated={}, lastId={}, elapsedMs={}",
+                    chunk,
+                    result.read(),
+                    result.updated(),
+                    lastId,
+                    System.currentTimeMillis() - chunkStartedAt);
+
+            if (result.isLast(EXPIRE_CHUNK_SIZE)) break;
         }
+
+        log.info("[SubscribeScheduler] Expire paid subscriptions finished. chunks={}, updated={}, elapsedMs={}",
+                chunk,
+                totalUpdated,
+                System.currentTimeMillis() - startedAt);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.backend.subscribe.service;
+
+import java.time.LocalDate;
+
+public interface SubscribeBatchService {
+
+    /**
+     * 만료된 멤버십 구독을 lastId 이후부터 chunkSize 건씩 일반 구독으로 전환 (청크 단위 커밋)
+     */
+    ExpireChunkResult expirePaidChunk(LocalDate today, Long lastId, int chunkSize);
+
+    record ExpireChunkResult(int read, int updated, Long lastId) {
+        public boolean isLast(int chunkSize) {
+            return read < chunkSize;
+        }
+    }
+}
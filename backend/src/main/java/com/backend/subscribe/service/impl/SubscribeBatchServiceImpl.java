@@ -0,0 +1,51 @@
+package com.backend.subscribe.service.impl;
+
+import com.backend.subscribe.entity.SubscribeStatus;
+import com.backend.subscribe.entity.SubscribeType;
+import com.backend.subscribe.repository.SubscribeAccessCache;
+import com.backend.subscribe.repository.SubscribeRepository;
+import com.backend.subscribe.service.SubscribeBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SubscribeBatchServiceImpl implements SubscribeBatchService {
+
+    private final SubscribeRepository subscribeRepository;
+    private final SubscribeAccessCache subscribeAccessCache;
+
+    /**
+     * 만료된 멤버십 구독 -> 일반 구독 전환 (1 청크)
+     * <br/>
+     * 전환된 구독은 조건(expiredAt < today)에서 빠지므로 중간에 실패해도 처음부터 다시 돌리면 이어서 처리됨
+     */
+    @Override
+    @Transactional
+    public ExpireChunkResult expirePaidChunk(LocalDate today, Long lastId, int chunkSize) {
+
+        List<SubscribeRepository.SubscribeKey> keys = subscribeRepository.findExpiredKeysAfter(
+                SubscribeStatus.ACTIVE,
+                today,
+                lastId,
+                PageRequest.of(0, chunkSize)
+        );
+
+        if (keys.isEmpty()) {
+            return new ExpireChunkResult(0, 0, lastId);
+        }
+
+        List<Long> ids = keys.stream().map(SubscribeRepository.SubscribeKey::getId).toList();
+
+        int updated = subscribeRepository.renewFreeByIds(ids, today, SubscribeType.FREE);
+
+        keys.forEach(k -> subscribeAccessCache.evict(k.getUserId(), k.getCreatorId()));
+
+        return new ExpireChunkResult(keys.size(), updated, ids.get(ids.size() - 1));
+    }
+}
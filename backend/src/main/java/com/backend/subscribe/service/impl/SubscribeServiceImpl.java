@@ -3,11 +3,13 @@ package com.backend.subscribe.service.impl;
 import com.backend.global.exception.domain.SubscribeErrorCode;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.global.validator.RoleValidator;
+import com.backend.post.service.TimelineService;
 import com.backend.subscribe.dto.SubscribedCreatorResponseDto;
 import com.backend.subscribe.dto.SubscribeResponseDto;
 import com.backend.subscribe.entity.Subscribe;
 import com.backend.subscribe.entity.SubscribeStatus;
 import com.backend.subscribe.entity.SubscribeType;
+import com.backend.subscribe.repository.SubscribeAccessCache;
 import com.backend.subscribe.repository.SubscribeRepository;
 import com.backend.subscribe.service.SubscribeService;
 import com.backend.user.entity.User;
@@ -27,6 +29,8 @@ public class SubscribeServiceImpl implements SubscribeService {
     private final SubscribeRepository subscribeRepository;
     private final UserRepository userRepository;
     private final RoleValidator roleValidator;
+    private final TimelineService timelineService;
+    private final SubscribeAccessCache subscribeAccessCache;
 
     /**
      * 구독하기
@@ -47,8 +51,13 @@ public class SubscribeServiceImpl implements SubscribeService {
         }
 
         Subscribe subscribe = Subscribe.of(subscriber, creator, SubscribeStatus.ACTIVE, null, SubscribeType.FREE);
+        Subscribe saved = subscribeRepository.save(subscribe);
 
-        return SubscribeResponseDto.from(subscribeRepository.save(subscribe));
+        // 구독 피드 타임라인에 크리에이터 최근 글 채우기
+        timelineService.onSubscribed(userId, creatorId);
+        subscribeAccessCache.evict(userId, creatorId);
+
+        return SubscribeResponseDto.from(saved);
     }
 
     /**
@@ -84,6 +93,8 @@ public class SubscribeServiceImpl implements SubscribeService {
             //처음 구독하면 오늘 기준으로 만료일 세팅
             subscribe.renewMembership(now.plusMonths(months));
         }
+
+        subscribeAccessCache.evict(userId, creatorId);
     }
 
     /**
@@ -106,6 +117,8 @@ public class SubscribeServiceImpl implements SubscribeService {
             case ACTIVE -> subscribe.activate();
         }
 
+        subscribeAccessCache.evict(userId, subscribe.getCreator().getId());
+
         return SubscribeResponseDto.from(subscribe);
     }
 
@@ -130,6 +143,10 @@ public class SubscribeServiceImpl implements SubscribeService {
         }
 
         subscribeRepository.delete(subscribe);
+
+        // 구독 피드 타임라인에서 크리에이터 글 제거
+        timelineService.onUnsubscribed(userId, subscribe.getCreator().getId());
+        subscribeAccessCache.evict(userId, subscribe.getCreator().getId());
     }
 
     /**
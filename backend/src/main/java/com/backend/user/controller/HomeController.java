@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/home")
 @RequiredArgsConstructor
@@ -55,4 +57,16 @@ public class HomeController {
 
         return ResponseEntity.ok(creators);
     }
+
+    /**
+     * 홈화면 크리에이터 닉네임 자동완성
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CreatorResponseDto>> suggestCreators(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+
+        return ResponseEntity.ok(homeService.suggestCreators(keyword, size));
+    }
 }
@@ -1,36 +1,75 @@
 package com.backend.user.controller;
 
-import com.backend.profile_image.entity.ProfileImage;
+import com.backend.profile_image.dto.ProfileImageContent;
+import com.backend.profile_image.dto.ProfileImageMeta;
+import com.backend.profile_image.dto.ProfileImageSize;
 import com.backend.profile_image.service.ProfileImageService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/profile-images")
 public class ProfileImageController {
 
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
     private final ProfileImageService profileImageService;
 
     /**
      * 특정 유저 프로필 이미지 다운로드(바이너리)
      * - 프론트에서 <img src="/api/profile-images/users/{userId}"> 로 사용 가능
+     * - 버전(v)이 붙은 URL 은 내용이 바뀌지 않으므로 1년 immutable 캐시, 없으면 매번 ETag 로 재검증
+     * - If-None-Match 가 일치하면 메타데이터 조회만으로 304 응답
+     * - size=small|medium 이면 정사각형 JPEG 변형 (생성 전이면 원본을 재검증 캐시로 응답)
      */
     @GetMapping("/users/{userId}")
-    public ResponseEntity<byte[]> download(@PathVariable Long userId) {
+    public ResponseEntity<Resource> download(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String v,
+            @RequestParam(defaultValue = "original") String size,
+            WebRequest request
+    ) {
+
+        ProfileImageSize imageSize = ProfileImageSize.from(size);
+        ProfileImageMeta meta = profileImageService.getMeta(userId);
+
+        CacheControl cacheControl = meta.matchesVersion(v) && meta.isSettled(imageSize) ? IMMUTABLE : REVALIDATE;
+        String etag = meta.etag(imageSize);
 
-        ProfileImage img = profileImageService.download(userId);
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(img.getContentType()))
+        ProfileImageContent img = profileImageService.download(meta, imageSize);
+
+        // 변형은 크기를 저장하지 않으므로 Content-Length 는 Resource 에서 계산
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(meta.contentType(imageSize)))
+                .cacheControl(cacheControl)
                 .header(
                         HttpHeaders.CONTENT_DISPOSITION,
-                        "inline; filename=\"" + img.getOriginalName() + "\""
-                )
-                .body(img.getData());
+                        "inline; filename=\"" + meta.fileName(imageSize) + "\""
+                );
+
+        if (etag != null) {
+            response.eTag(etag);
+        }
+
+        return response.body(img.resource());
     }
-}
\ No newline at end of file
+}
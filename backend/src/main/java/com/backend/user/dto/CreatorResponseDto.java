@@ -4,12 +4,18 @@ import com.backend.user.entity.User;
 
 public record CreatorResponseDto(
         Long creatorId,
-        String nickname
+        String nickname,
+        String profileImageUrl
 ) {
     public static CreatorResponseDto from(User creator) {
         return new CreatorResponseDto(
                 creator.getId(),
-                creator.getNickname()
+                creator.getNickname(),
+                null
         );
     }
+
+    public static CreatorResponseDto of(Long creatorId, String nickname, String profileImageUrl) {
+        return new CreatorResponseDto(creatorId, nickname, profileImageUrl);
+    }
 }
@@ -0,0 +1,28 @@
+package com.backend.user.repository;
+
+import com.backend.user.entity.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface CreatorNicknameIndex {
+
+    // 전체 재구성 (기동 시 / 주기적 보정)
+    // loader 로 읽는 동안 들어온 add/remove 는 읽어 온 목록 위에 다시 반영
+    void rebuild(Supplier<? extends Collection<User>> loader);
+
+    // 트랜잭션 안에서 호출하면 커밋 후에 반영 (롤백되면 반영하지 않음)
+    void add(User creator);
+
+    void remove(Long userId);
+
+    // 닉네임에 keyword 가 포함된 크리에이터 (가입일 최신순)
+    List<Entry> search(String keyword);
+
+    // 닉네임이 prefix 로 시작하는 크리에이터 (자동완성)
+    List<Entry> suggest(String prefix, int limit);
+
+    record Entry(Long userId, String nickname) {
+    }
+}
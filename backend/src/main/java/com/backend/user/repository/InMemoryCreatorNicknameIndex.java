@@ -0,0 +1,253 @@
+package com.backend.user.repository;
+
+import com.backend.user.entity.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 크리에이터 닉네임 메모리 인덱스
+ * <br/>
+ * - 포함 검색: 1글자는 글자 단위, 2글자 이상은 bigram 포스팅 교집합 후 실제 포함 여부 확인
+ * - 자동완성: 닉네임 사전순 TreeMap 범위 조회
+ * <br/>
+ * 재구성은 DB 목록을 읽는 동안의 변경을 따로 모아 두었다가 새 목록 위에 다시 적용
+ * (읽기 시작 전 스냅샷으로 통째로 바꾸면 그 사이 승인/탈퇴가 다음 재구성까지 사라짐)
+ */
+@Component
+public class InMemoryCreatorNicknameIndex implements CreatorNicknameIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Creator> creators = new HashMap<>();
+    private final Map<String, Set<Long>> grams = new HashMap<>();
+    private final NavigableMap<String, Long> byNickname = new TreeMap<>();
+
+    // 재구성 중 들어온 변경 (userId -> 추가된 크리에이터, 제거면 null), 재구성 중이 아니면 null
+    private Map<Long, User> pendingChanges;
+
+    private record Creator(Long userId, String nickname, String normalized, LocalDateTime createdAt) {
+    }
+
+    @Override
+    public synchronized void rebuild(Supplier<? extends Collection<User>> loader) {
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Collection<User> users;
+        try {
+            users = loader.get();
+        } catch (RuntimeException e) {
+            clearPending();
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            creators.clear();
+            grams.clear();
+            byNickname.clear();
+            users.forEach(this::put);
+
+            pendingChanges.forEach((userId, user) -> {
+                delete(userId);
+                if (user != null) put(user);
+            });
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(User creator) {
+        afterCommit(() -> apply(creator.getId(), creator));
+    }
+
+    @Override
+    public void remove(Long userId) {
+        afterCommit(() -> apply(userId, null));
+    }
+
+    @Override
+    public List<Entry> search(String keyword) {
+
+        String normalized = normalize(keyword);
+
+        lock.readLock().lock();
+        try {
+            Collection<Creator> candidates = normalized.isEmpty()
+                    ? creators.values()
+                    : candidates(normalized);
+
+            return candidates.stream()
+                    .filter(c -> c.normalized().contains(normalized))
+                    .sorted(Comparator.comparing(Creator::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                            .thenComparing(Creator::userId, Comparator.reverseOrder()))
+                    .map(c -> new Entry(c.userId(), c.nickname()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Entry> suggest(String prefix, int limit) {
+
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(limit);
+
+            for (Map.Entry<String, Long> e : byNickname.tailMap(normalized, true).entrySet()) {
+                if (!e.getKey().startsWith(normalized) || result.size() >= limit) break;
+
+                Creator c = creators.get(e.getValue());
+                result.add(new Entry(c.userId(), c.nickname()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // user 가 null 이면 제거
+    private void apply(Long userId, User user) {
+        lock.writeLock().lock();
+        try {
+            delete(userId);
+            if (user != null) put(user);
+
+            if (pendingChanges != null) {
+                pendingChanges.put(userId, user);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void clearPending() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =================================================================
+    // 내부 로직 (lock 보유 상태에서 호출)
+    // =================================================================
+
+    private Collection<Creator> candidates(String normalized) {
+
+        Set<Long> ids = null;
+
+        for (String gram : grams(normalized)) {
+            Set<Long> posting = grams.getOrDefault(gram, Set.of());
+
+            if (ids == null) {
+                ids = new HashSet<>(posting);
+            } else {
+                ids.retainAll(posting);
+            }
+            if (ids.isEmpty()) return List.of();
+        }
+
+        return ids.stream().map(creators::get).toList();
+    }
+
+    private void put(User user) {
+
+        Creator c = new Creator(user.getId(), user.getNickname(), normalize(user.getNickname()), user.getCreatedAt());
+
+        creators.put(c.userId(), c);
+        byNickname.put(nicknameKey(c), c.userId());
+        for (String gram : indexGrams(c.normalized())) {
+            grams.computeIfAbsent(gram, k -> new HashSet<>()).add(c.userId());
+        }
+    }
+
+    private void delete(Long userId) {
+
+        Creator c = creators.remove(userId);
+        if (c == null) return;
+
+        byNickname.remove(nicknameKey(c));
+        for (String gram : indexGrams(c.normalized())) {
+            Set<Long> posting = grams.get(gram);
+            if (posting == null) continue;
+
+            posting.remove(userId);
+            if (posting.isEmpty()) grams.remove(gram);
+        }
+    }
+
+    // 색인: 1글자 + bigram 모두 등록 (1글자 검색 지원)
+    private Set<String> indexGrams(String normalized) {
+
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            result.add(normalized.substring(i, i + 1));
+        }
+        result.addAll(grams(normalized));
+        return result;
+    }
+
+    // 검색: 1글자는 그대로, 2글자 이상은 bigram
+    private Set<String> grams(String normalized) {
+
+        if (normalized.length() == 1) return Set.of(normalized);
+
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + 2 <= normalized.length(); i++) {
+            result.add(normalized.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    // 대소문자만 다른 닉네임이 덮어쓰지 않도록 id 를 붙여 정렬 키로 사용
+    private String nicknameKey(Creator c) {
+        return c.normalized() + '\u0000' + c.userId();
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -4,10 +4,14 @@ import com.backend.global.exception.common.BusinessException;
 import com.backend.global.exception.domain.UserErrorCode;
 import com.backend.role.entity.RoleEnum;
 import com.backend.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,26 +29,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
             """)
     Page<User> findByRoleEnum(RoleEnum roleEnum, Pageable pageable);
 
-    // 크리에이터 검색
+    // 배치,스케줄러용
     @Query("""
             select distinct u from User u
-            JOIN u.role r
-            WHERE r.role = :roleEnum 
-            AND u.nickname 
-            LIKE %:keyword%
+            join u.role r
+            where r.role = :roleEnum
             """)
-    Page<User> findByRoleEnumAndNicknameContaining(RoleEnum roleEnum, String keyword, Pageable pageable);
+    List<User> findAllByRoleEnum(RoleEnum roleEnum);
 
-    // 배치,스케줄러용
+    // 배치 파티셔닝용 (id 만 조회)
     @Query("""
-            select distinct u from User u
+            select distinct u.id from User u
             join u.role r
             where r.role = :roleEnum
+            order by u.id
             """)
-    List<User> findAllByRoleEnum(RoleEnum roleEnum);
+    List<Long> findIdsByRoleEnum(RoleEnum roleEnum);
 
     Optional<User> findByEmail(String email);
 
+    // 사용자 단위 작업 직렬화용 행 잠금 (프로필 이미지가 아직 없는 사용자의 동시 업로드 등)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findForUpdateById(@Param("id") Long id);
+
+    // 인증 주체 조회용 (role 함께 조회)
+    @EntityGraph(attributePaths = "role")
+    Optional<User> findWithRoleById(Long id);
+
     @Query("""
             select count(distinct u) from User u
             join u.role r
@@ -0,0 +1,49 @@
+package com.backend.user.scheduler;
+
+import com.backend.role.entity.RoleEnum;
+import com.backend.user.entity.User;
+import com.backend.user.repository.CreatorNicknameIndex;
+import com.backend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 크리에이터 닉네임 인덱스 적재
+ * <br/>
+ * 기동 시 1회 구성하고, 다른 인스턴스에서 발생한 승인/탈퇴를 반영하기 위해 주기적으로 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreatorNicknameIndexScheduler implements CommandLineRunner {
+
+    private final UserRepository userRepository;
+    private final CreatorNicknameIndex creatorNicknameIndex;
+
+    @Override
+    public void run(String... args) {
+        rebuild();
+    }
+
+    // 5분마다 재구성
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void rebuild() {
+
+        List<User> creators = new ArrayList<>();
+
+        creatorNicknameIndex.rebuild(() -> {
+            creators.addAll(userRepository.findAllByRoleEnum(RoleEnum.ROLE_CREATOR));
+            return creators;
+        });
+
+        log.info("[CreatorNicknameIndex] rebuilt. creators={}", creators.size());
+    }
+}
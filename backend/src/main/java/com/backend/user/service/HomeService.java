@@ -4,9 +4,13 @@ import com.backend.user.dto.CreatorResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface HomeService {
 
     Page<CreatorResponseDto> listAllCreators(Pageable pageable);
 
     Page<CreatorResponseDto> searchCreators(String keyword, Pageable pageable);
+
+    List<CreatorResponseDto> suggestCreators(String keyword, int size);
 }
@@ -1,5 +1,7 @@
 package com.backend.user.service.impl;
 
+import com.backend.auth.repository.RefreshTokenStore;
+import com.backend.auth.service.CustomUserDetailsService;
 import com.backend.global.exception.domain.UserErrorCode;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.global.validator.RoleValidator;
@@ -14,6 +16,7 @@ import com.backend.user.entity.ApplicationStatus;
 import com.backend.user.entity.CreatorApplication;
 import com.backend.user.entity.User;
 import com.backend.user.repository.ApplicationRepository;
+import com.backend.user.repository.CreatorNicknameIndex;
 import com.backend.user.repository.UserRepository;
 import com.backend.user.service.AdminService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +34,9 @@ public class AdminServiceImpl implements AdminService {
     private final ApplicationRepository applicationRepository;
     private final RoleRepository roleRepository;
     private final RoleValidator roleValidator;
+    private final CreatorNicknameIndex creatorNicknameIndex;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 크리에이터 신청 목록 조회
@@ -92,6 +98,14 @@ public class AdminServiceImpl implements AdminService {
 
         userRepository.save(user);
         applicationRepository.save(application);
+
+        // 홈 검색 인덱스에 크리에이터 추가 (커밋 후 반영)
+        creatorNicknameIndex.add(user);
+
+        // 권한이 바뀌었으므로 캐시된 인증 정보 제거 + 이전 권한이 담긴 access token 무효화
+        // (둘 다 커밋 후 반영, 캐시 제거가 먼저 등록되어야 버전이 올라간 뒤 이전 권한으로 재발급되지 않음)
+        customUserDetailsService.evict(userId);
+        refreshTokenStore.revokeAccessTokens(userId);
     }
 
     // 크리에이터 신청 거절
@@ -1,21 +1,31 @@
 package com.backend.user.service.impl;
 
+import com.backend.profile_image.service.ProfileImageService;
 import com.backend.role.entity.RoleEnum;
 import com.backend.user.dto.CreatorResponseDto;
 import com.backend.user.entity.User;
+import com.backend.user.repository.CreatorNicknameIndex;
 import com.backend.user.repository.UserRepository;
 import com.backend.user.service.HomeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class HomeServiceImpl implements HomeService {
 
+    private static final int MAX_SUGGEST_SIZE = 20;
+
     private final UserRepository userRepository;
+    private final CreatorNicknameIndex creatorNicknameIndex;
+    private final ProfileImageService profileImageService;
 
     /**
      * CREATOR 목록 표시 (홈화면)
@@ -26,22 +36,48 @@ public class HomeServiceImpl implements HomeService {
 
         Page<User> creators = userRepository.findByRoleEnum(RoleEnum.ROLE_CREATOR, pageable);
 
-        return creators.map(creator -> new CreatorResponseDto(creator.getId(), creator.getNickname()));
+        Map<Long, String> imageUrls = profileImageService.getImageUrls(
+                creators.getContent().stream().map(User::getId).toList()
+        );
+
+        return creators.map(creator ->
+                CreatorResponseDto.of(creator.getId(), creator.getNickname(), imageUrls.get(creator.getId()))
+        );
     }
 
     /**
      * 홈화면에서 크리에이터 검색
      */
     @Override
-    @Transactional(readOnly = true)
     public Page<CreatorResponseDto> searchCreators(String keyword, Pageable pageable) {
 
-        Page<User> creators = userRepository.findByRoleEnumAndNicknameContaining(
-                RoleEnum.ROLE_CREATOR,
-                keyword,
-                pageable
+        // DB 조회 없이 메모리 인덱스에서 검색 (가입일 최신순)
+        List<CreatorNicknameIndex.Entry> matched = creatorNicknameIndex.search(keyword);
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+
+        // 이미지 URL 은 현재 페이지 크리에이터만 조회
+        return new PageImpl<>(toDtos(matched.subList(from, to)), pageable, matched.size());
+    }
+
+    /**
+     * 홈화면 크리에이터 닉네임 자동완성
+     */
+    @Override
+    public List<CreatorResponseDto> suggestCreators(String keyword, int size) {
+
+        return toDtos(creatorNicknameIndex.suggest(keyword, Math.clamp(size, 1, MAX_SUGGEST_SIZE)));
+    }
+
+    private List<CreatorResponseDto> toDtos(List<CreatorNicknameIndex.Entry> entries) {
+
+        Map<Long, String> imageUrls = profileImageService.getImageUrls(
+                entries.stream().map(CreatorNicknameIndex.Entry::userId).toList()
         );
 
-        return creators.map(creator -> new CreatorResponseDto(creator.getId(), creator.getNickname()));
+        return entries.stream()
+                .map(e -> CreatorResponseDto.of(e.userId(), e.nickname(), imageUrls.get(e.userId())))
+                .toList();
     }
 }
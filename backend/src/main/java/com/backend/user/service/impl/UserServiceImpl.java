@@ -1,8 +1,11 @@
 package com.backend.user.service.impl;
 
 import com.backend.auth.repository.RefreshTokenRepository;
+import com.backend.auth.repository.RefreshTokenStore;
+import com.backend.auth.service.CustomUserDetailsService;
 import com.backend.global.exception.common.BusinessException;
 import com.backend.global.exception.domain.UserErrorCode;
+import com.backend.profile_image.service.ProfileImageService;
 import com.backend.role.entity.RoleEnum;
 import com.backend.subscribe.entity.SubscribeStatus;
 import com.backend.subscribe.entity.SubscribeType;
@@ -12,6 +15,7 @@ import com.backend.user.entity.ApplicationStatus;
 import com.backend.user.entity.CreatorApplication;
 import com.backend.user.entity.User;
 import com.backend.user.repository.ApplicationRepository;
+import com.backend.user.repository.CreatorNicknameIndex;
 import com.backend.user.repository.UserRepository;
 import com.backend.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -26,8 +30,12 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final SubscribeRepository subscribeRepository;
     private final ApplicationRepository applicationRepository;
+    private final CreatorNicknameIndex creatorNicknameIndex;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final ProfileImageService profileImageService;
 
     /**
      * 내 정보 조회
@@ -64,9 +72,20 @@ public class UserServiceImpl implements UserService {
 
         // 리프레시 토큰 삭제
         refreshTokenRepository.deleteAllByUserId(userId);
+        refreshTokenStore.delete(userId);
 
         // 사용자 삭제
         userRepository.delete(user);
+
+        // 홈 검색 인덱스에서 제거 (커밋 후 반영)
+        creatorNicknameIndex.remove(userId);
+
+        // 캐시된 인증 정보 제거 후 발급된 access token 무효화 (둘 다 커밋 후 이 순서로 반영)
+        customUserDetailsService.evict(userId);
+        refreshTokenStore.revokeAccessTokens(userId);
+
+        // 프로필 이미지 캐시 제거 + 파일 정리 예약 (커밋 후 GC 가 참조를 다시 확인해 삭제)
+        profileImageService.releaseForDeletedUser(userId);
     }
 
     // 탈퇴 제약 조건
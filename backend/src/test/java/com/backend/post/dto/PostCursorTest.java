@@ -0,0 +1,69 @@
+package com.backend.post.dto;
+
+import com.backend.global.exception.common.BusinessException;
+import com.backend.global.exception.domain.PostErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 3, 15, 9, 30, 12, 345_678_000), 1234L);
+
+        assertThat(PostCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripKeepsWholeMinuteTimestamps() {
+        // 초가 0이면 LocalDateTime.toString 이 초를 생략함
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 1L);
+
+        assertThat(PostCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafeWithoutPadding() {
+        PostCursor cursor = new PostCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"!!!not-base64!!!", "bm90LWEtY3Vyc29y"})
+    void rejectsMalformedCursor(String cursor) {
+        assertInvalid(cursor);
+    }
+
+    @Test
+    void rejectsCursorWithInvalidTimestamp() {
+        assertInvalid(encodeRaw("2024-13-01T00:00_1"));
+    }
+
+    @Test
+    void rejectsCursorWithInvalidId() {
+        assertInvalid(encodeRaw("2024-01-01T00:00_abc"));
+        assertInvalid(encodeRaw("2024-01-01T00:00_"));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> PostCursor.decode(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(PostErrorCode.INVALID_CURSOR);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.backend.profile_image.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileImageFormatTest {
+
+    @Test
+    void detectsPng() {
+        byte[] header = header(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00, 0x00, 0x0D);
+
+        assertThat(ProfileImageFormat.detect(header, header.length)).contains(ProfileImageFormat.PNG);
+    }
+
+    @Test
+    void detectsJpeg() {
+        byte[] header = header(0xFF, 0xD8, 0xFF, 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0x00, 0x01);
+
+        assertThat(ProfileImageFormat.detect(header, header.length)).contains(ProfileImageFormat.JPEG);
+    }
+
+    @Test
+    void detectsGif87aAnd89a() {
+        byte[] gif87a = ascii("GIF87a\0\0\0\0\0\0");
+        byte[] gif89a = ascii("GIF89a\0\0\0\0\0\0");
+
+        assertThat(ProfileImageFormat.detect(gif87a, gif87a.length)).contains(ProfileImageFormat.GIF);
+        assertThat(ProfileImageFormat.detect(gif89a, gif89a.length)).contains(ProfileImageFormat.GIF);
+    }
+
+    @Test
+    void detectsWebpWithAnyRiffSize() {
+        // 5~8번째 바이트(파일 크기)는 어떤 값이어도 됨, 부호 있는 byte 로 음수가 되는 값 포함
+        byte[] small = header('R', 'I', 'F', 'F', 0x24, 0x00, 0x00, 0x00, 'W', 'E', 'B', 'P');
+        byte[] large = header('R', 'I', 'F', 'F', 0xFF, 0xFF, 0x80, 0x9A, 'W', 'E', 'B', 'P');
+
+        assertThat(ProfileImageFormat.detect(small, small.length)).contains(ProfileImageFormat.WEBP);
+        assertThat(ProfileImageFormat.detect(large, large.length)).contains(ProfileImageFormat.WEBP);
+    }
+
+    @Test
+    void rejectsRiffContainerThatIsNotWebp() {
+        byte[] wav = header('R', 'I', 'F', 'F', 0x24, 0x00, 0x00, 0x00, 'W', 'A', 'V', 'E');
+
+        assertThat(ProfileImageFormat.detect(wav, wav.length)).isEmpty();
+    }
+
+    @Test
+    void rejectsTruncatedHeaders() {
+        byte[] png = header(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+        byte[] webp = header('R', 'I', 'F', 'F', 0x24, 0x00, 0x00, 0x00, 'W', 'E', 'B', 'P');
+
+        // 시그니처보다 짧게 읽힌 경우 (버퍼 뒤쪽에 남은 값으로 판별하면 안 됨)
+        assertThat(ProfileImageFormat.detect(png, 7)).isEmpty();
+        assertThat(ProfileImageFormat.detect(webp, 11)).isEmpty();
+        assertThat(ProfileImageFormat.detect(new byte[ProfileImageFormat.HEADER_LENGTH], 0)).isEmpty();
+    }
+
+    @Test
+    void detectsShortSignatureWhenOnlyPartOfBufferIsFilled() {
+        // 3바이트짜리 JPEG 파일: 나머지 버퍼는 0
+        byte[] buffer = Arrays.copyOf(header(0xFF, 0xD8, 0xFF), ProfileImageFormat.HEADER_LENGTH);
+
+        assertThat(ProfileImageFormat.detect(buffer, 3)).contains(ProfileImageFormat.JPEG);
+    }
+
+    @Test
+    void rejectsNonImageContent() {
+        byte[] html = ascii("<html><body>");
+        byte[] pdf = ascii("%PDF-1.7\n%âã");
+
+        assertThat(ProfileImageFormat.detect(html, html.length)).isEmpty();
+        assertThat(ProfileImageFormat.detect(pdf, pdf.length)).isEmpty();
+    }
+
+    private static byte[] header(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
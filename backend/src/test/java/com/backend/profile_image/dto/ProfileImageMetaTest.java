@@ -0,0 +1,88 @@
+package com.backend.profile_image.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileImageMetaTest {
+
+    private static final String ORIGINAL = "a".repeat(64);
+    private static final String SMALL = "b".repeat(64);
+    private static final String MEDIUM = "c".repeat(64);
+
+    @Test
+    void keyForReturnsVariantWhenGenerated() {
+        ProfileImageMeta meta = meta(ORIGINAL, SMALL, MEDIUM);
+
+        assertThat(meta.keyFor(ProfileImageSize.ORIGINAL)).isEqualTo(ORIGINAL);
+        assertThat(meta.keyFor(ProfileImageSize.SMALL)).isEqualTo(SMALL);
+        assertThat(meta.keyFor(ProfileImageSize.MEDIUM)).isEqualTo(MEDIUM);
+    }
+
+    @Test
+    void keyForFallsBackToOriginalBeforeVariantsExist() {
+        ProfileImageMeta meta = meta(ORIGINAL, null, null);
+
+        assertThat(meta.keyFor(ProfileImageSize.SMALL)).isEqualTo(ORIGINAL);
+        assertThat(meta.keyFor(ProfileImageSize.MEDIUM)).isEqualTo(ORIGINAL);
+        assertThat(meta.hasVariant(ProfileImageSize.SMALL)).isFalse();
+    }
+
+    @Test
+    void undecodableImageIsSettledOnOriginalKey() {
+        // 디코딩 실패 시 변형 키에 원본 키가 기록됨
+        ProfileImageMeta meta = meta(ORIGINAL, ORIGINAL, ORIGINAL);
+
+        assertThat(meta.keyFor(ProfileImageSize.SMALL)).isEqualTo(ORIGINAL);
+        assertThat(meta.hasVariant(ProfileImageSize.SMALL)).isFalse();
+        assertThat(meta.isSettled(ProfileImageSize.SMALL)).isTrue();
+        assertThat(meta.contentType(ProfileImageSize.SMALL)).isEqualTo("image/png");
+    }
+
+    @Test
+    void isSettledOnlyOnceVariantIsRecorded() {
+        ProfileImageMeta pending = meta(ORIGINAL, null, null);
+        ProfileImageMeta generated = meta(ORIGINAL, SMALL, MEDIUM);
+
+        assertThat(pending.isSettled(ProfileImageSize.ORIGINAL)).isTrue();
+        assertThat(pending.isSettled(ProfileImageSize.SMALL)).isFalse();
+        assertThat(pending.isSettled(ProfileImageSize.MEDIUM)).isFalse();
+        assertThat(generated.isSettled(ProfileImageSize.SMALL)).isTrue();
+        assertThat(generated.isSettled(ProfileImageSize.MEDIUM)).isTrue();
+    }
+
+    @Test
+    void legacyImageIsNeverSettled() {
+        ProfileImageMeta legacy = meta(null, null, null);
+
+        assertThat(legacy.isSettled(ProfileImageSize.ORIGINAL)).isFalse();
+        assertThat(legacy.isSettled(ProfileImageSize.SMALL)).isFalse();
+        assertThat(legacy.etag(ProfileImageSize.ORIGINAL)).isNull();
+        assertThat(legacy.version()).isNull();
+    }
+
+    @Test
+    void etagIsQuotedKeyOfServedContent() {
+        ProfileImageMeta pending = meta(ORIGINAL, null, null);
+        ProfileImageMeta generated = meta(ORIGINAL, SMALL, MEDIUM);
+
+        assertThat(pending.etag(ProfileImageSize.SMALL)).isEqualTo("\"" + ORIGINAL + "\"");
+        assertThat(generated.etag(ProfileImageSize.ORIGINAL)).isEqualTo("\"" + ORIGINAL + "\"");
+        assertThat(generated.etag(ProfileImageSize.SMALL)).isEqualTo("\"" + SMALL + "\"");
+        assertThat(generated.etag(ProfileImageSize.MEDIUM)).isEqualTo("\"" + MEDIUM + "\"");
+    }
+
+    @Test
+    void versionIsPrefixOfOriginalKey() {
+        ProfileImageMeta meta = meta(ORIGINAL, SMALL, MEDIUM);
+
+        assertThat(meta.version()).isEqualTo(ORIGINAL.substring(0, 16));
+        assertThat(meta.matchesVersion(ORIGINAL.substring(0, 16))).isTrue();
+        assertThat(meta.matchesVersion(SMALL.substring(0, 16))).isFalse();
+        assertThat(meta.matchesVersion(null)).isFalse();
+    }
+
+    private static ProfileImageMeta meta(String storageKey, String smallKey, String mediumKey) {
+        return new ProfileImageMeta(7L, "image/png", "me.png", 1024L, storageKey, smallKey, mediumKey);
+    }
+}
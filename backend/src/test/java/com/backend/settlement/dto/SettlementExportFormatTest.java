@@ -0,0 +1,39 @@
+package com.backend.settlement.dto;
+
+import com.backend.global.exception.common.BusinessException;
+import com.backend.global.exception.domain.SettlementErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementExportFormatTest {
+
+    @Test
+    void parsesFormatIgnoringCase() {
+        assertThat(SettlementExportFormat.from("csv")).isEqualTo(SettlementExportFormat.CSV);
+        assertThat(SettlementExportFormat.from("CSV")).isEqualTo(SettlementExportFormat.CSV);
+        assertThat(SettlementExportFormat.from("NdJson")).isEqualTo(SettlementExportFormat.NDJSON);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"xlsx", "json", " csv"})
+    void rejectsUnsupportedFormat(String value) {
+        assertThatThrownBy(() -> SettlementExportFormat.from(value))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(SettlementErrorCode.INVALID_EXPORT_FORMAT);
+    }
+
+    @Test
+    void contentTypeAndFileNameFollowFormat() {
+        assertThat(SettlementExportFormat.CSV.contentType()).isEqualTo("text/csv; charset=UTF-8");
+        assertThat(SettlementExportFormat.CSV.fileName(42L)).isEqualTo("settlement-42.csv");
+        assertThat(SettlementExportFormat.NDJSON.contentType()).isEqualTo("application/x-ndjson");
+        assertThat(SettlementExportFormat.NDJSON.fileName(42L)).isEqualTo("settlement-42.ndjson");
+    }
+}